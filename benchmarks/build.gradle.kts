@@ -0,0 +1,25 @@
+plugins {
+    id("kotonoha.base")
+    alias(libs.plugins.jmh)
+}
+
+val projectVersion: String by project
+version = projectVersion
+
+dependencies {
+    jmh(projects.kotonohaMessage)
+    jmh(projects.kotonohaTranslator)
+    jmh(libs.adventure.text.minimessage)
+
+    // Generates the implementations measured with the GENERATED strategy
+    jmhAnnotationProcessor(projects.kotonohaResourcebundleGeneratorProcessor)
+}
+
+tasks.named<JavaCompile>("compileJmhJava") {
+    options.compilerArgs.add("-parameters")
+}
+
+jmh {
+    jmhVersion = libs.versions.jmh.asProvider().get()
+    profilers = listOf("gc")
+}
@@ -0,0 +1,96 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.benchmarks;
+
+import io.github.namiuni.kotonoha.translatable.message.utility.TranslationArgumentAdapter;
+import java.util.concurrent.TimeUnit;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TranslationArgument;
+import org.jspecify.annotations.NullMarked;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the dispatch of {@link TranslationArgumentAdapter#adapt(java.lang.reflect.Type, Object)}
+ * for the standard adapters.
+ */
+@NullMarked
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArgumentAdapterBenchmark {
+
+    private final TranslationArgumentAdapter adapter = TranslationArgumentAdapter.standard();
+    private final Component component = Component.text("component");
+
+    /**
+     * Adapts a string.
+     *
+     * @return the translation argument
+     */
+    @Benchmark
+    public TranslationArgument adaptString() {
+        return this.adapter.adapt(String.class, "Steve");
+    }
+
+    /**
+     * Adapts a primitive int.
+     *
+     * @return the translation argument
+     */
+    @Benchmark
+    public TranslationArgument adaptInt() {
+        return this.adapter.adapt(int.class, 42);
+    }
+
+    /**
+     * Adapts a primitive boolean.
+     *
+     * @return the translation argument
+     */
+    @Benchmark
+    public TranslationArgument adaptBoolean() {
+        return this.adapter.adapt(boolean.class, true);
+    }
+
+    /**
+     * Adapts a component.
+     *
+     * @return the translation argument
+     */
+    @Benchmark
+    public TranslationArgument adaptComponent() {
+        return this.adapter.adapt(Component.class, this.component);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.benchmarks;
+
+import io.github.namiuni.kotonoha.translatable.message.configuration.FormatTypes;
+import io.github.namiuni.kotonoha.translatable.message.configuration.InvocationConfiguration;
+import io.github.namiuni.kotonoha.translator.KotonohaTranslationStore;
+import java.util.function.Function;
+import net.kyori.adventure.key.Key;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * The message formats covered by the benchmarks.
+ */
+@NullMarked
+public enum BenchmarkFormat {
+
+    /**
+     * {@link java.text.MessageFormat} based messages.
+     */
+    MESSAGE_FORMAT(FormatTypes.MESSAGE_FORMAT, KotonohaTranslationStore::messageFormat),
+
+    /**
+     * MiniMessage based messages.
+     */
+    MINI_MESSAGE(FormatTypes.MINI_MESSAGE, KotonohaTranslationStore::miniMessage);
+
+    private static final Key STORE_NAME = Key.key("kotonoha", "benchmark");
+
+    private final InvocationConfiguration config;
+    private final Function<Key, KotonohaTranslationStore<?>> storeFactory;
+
+    BenchmarkFormat(final InvocationConfiguration config, final Function<Key, KotonohaTranslationStore<?>> storeFactory) {
+        this.config = config;
+        this.storeFactory = storeFactory;
+    }
+
+    /**
+     * Returns the invocation configuration of the format.
+     *
+     * @return the invocation configuration
+     */
+    public InvocationConfiguration config() {
+        return this.config;
+    }
+
+    /**
+     * Creates an empty translation store of the format.
+     *
+     * @return the translation store
+     */
+    public KotonohaTranslationStore<?> createStore() {
+        return this.storeFactory.apply(STORE_NAME);
+    }
+}
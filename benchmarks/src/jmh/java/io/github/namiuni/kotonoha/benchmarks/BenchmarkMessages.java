@@ -0,0 +1,90 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.benchmarks;
+
+import io.github.namiuni.kotonoha.annotations.Key;
+import io.github.namiuni.kotonoha.annotations.Locales;
+import io.github.namiuni.kotonoha.annotations.Message;
+import io.github.namiuni.kotonoha.annotations.Name;
+import net.kyori.adventure.text.Component;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Message interface shared by the benchmarks.
+ * <p>
+ * The contents are valid for both {@link java.text.MessageFormat} and MiniMessage stores.
+ */
+@NullMarked
+public interface BenchmarkMessages {
+
+    /**
+     * A message without arguments.
+     *
+     * @return the message
+     */
+    @Key("benchmark.no.arguments")
+    @Message(locale = Locales.EN_US, content = "Welcome to the server!")
+    @Message(locale = Locales.JA_JP, content = "サーバーへようこそ！")
+    Component noArguments();
+
+    /**
+     * A message with one argument.
+     *
+     * @param name the name
+     * @return the message
+     */
+    @Key("benchmark.one.argument")
+    @Message(locale = Locales.EN_US, content = "Hello, <name>{0}!")
+    @Message(locale = Locales.JA_JP, content = "こんにちは、<name>{0}さん！")
+    Component oneArgument(@Name("name") String name);
+
+    /**
+     * A message with eight arguments.
+     *
+     * @param name      the name
+     * @param count     the count
+     * @param amount    the amount
+     * @param ratio     the ratio
+     * @param enabled   the enabled flag
+     * @param component the component
+     * @param world     the world name
+     * @param level     the level
+     * @return the message
+     */
+    @Key("benchmark.eight.arguments")
+    @Message(
+            locale = Locales.EN_US,
+            content = "<name>{0} has <count>{1} items worth <amount>{2} (<ratio>{3}, <enabled>{4}) <component>{5} in <world>{6} at level <level>{7}"
+    )
+    Component eightArguments(
+            @Name("name") String name,
+            @Name("count") int count,
+            @Name("amount") long amount,
+            @Name("ratio") double ratio,
+            @Name("enabled") boolean enabled,
+            @Name("component") Component component,
+            @Name("world") String world,
+            @Name("level") int level
+    );
+}
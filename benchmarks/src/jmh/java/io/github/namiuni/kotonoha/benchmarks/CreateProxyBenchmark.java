@@ -0,0 +1,103 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.benchmarks;
+
+import io.github.namiuni.kotonoha.translatable.message.KotonohaMessage;
+import io.github.namiuni.kotonoha.translatable.message.configuration.ImplementationStrategy;
+import io.github.namiuni.kotonoha.translatable.message.configuration.InvocationConfiguration;
+import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.NullMarked;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link KotonohaMessage#createProxy(Class, InvocationConfiguration)} on a large interface.
+ */
+@NullMarked
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CreateProxyBenchmark {
+
+    /**
+     * The message format under test.
+     */
+    @Param({"MESSAGE_FORMAT", "MINI_MESSAGE"})
+    public BenchmarkFormat format = BenchmarkFormat.MESSAGE_FORMAT;
+
+    /**
+     * The implementation strategy under test.
+     */
+    @Param({"PROXY", "HIDDEN_CLASS", "GENERATED"})
+    public ImplementationStrategy strategy = ImplementationStrategy.PROXY;
+
+    /**
+     * Whether the message instance is already cached, or has to be created by each invocation.
+     */
+    @Param({"false", "true"})
+    public boolean cached;
+
+    private InvocationConfiguration config;
+
+    /**
+     * Resolves the configuration for the current format and strategy.
+     */
+    @Setup
+    public void setup() {
+        this.config = this.format.config().withImplementationStrategy(this.strategy);
+    }
+
+    /**
+     * Evicts the cached message instance before each invocation, unless measuring cache hits.
+     */
+    @Setup(Level.Invocation)
+    public void evict() {
+        if (!this.cached) {
+            KotonohaMessage.invalidate(LargeBenchmarkMessages.class);
+        }
+    }
+
+    /**
+     * Creates a message instance of an interface with 64 methods.
+     *
+     * @return the message instance
+     */
+    @Benchmark
+    public LargeBenchmarkMessages createProxy() {
+        return KotonohaMessage.createProxy(LargeBenchmarkMessages.class, this.config);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.benchmarks;
+
+import io.github.namiuni.kotonoha.translatable.message.KotonohaMessage;
+import io.github.namiuni.kotonoha.translatable.message.configuration.ImplementationStrategy;
+import java.util.concurrent.TimeUnit;
+import net.kyori.adventure.text.Component;
+import org.jspecify.annotations.NullMarked;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures message invocations with 0, 1 and 8 arguments for each format and implementation strategy.
+ */
+@NullMarked
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InvocationBenchmark {
+
+    private static final Component COMPONENT = Component.text("component");
+
+    /**
+     * The message format under test.
+     */
+    @Param({"MESSAGE_FORMAT", "MINI_MESSAGE"})
+    public BenchmarkFormat format = BenchmarkFormat.MESSAGE_FORMAT;
+
+    /**
+     * The implementation strategy under test.
+     */
+    @Param({"PROXY", "HIDDEN_CLASS", "GENERATED"})
+    public ImplementationStrategy strategy = ImplementationStrategy.PROXY;
+
+    private BenchmarkMessages messages;
+
+    /**
+     * Creates the message instance for the current format and strategy.
+     */
+    @Setup
+    public void setup() {
+        this.messages = KotonohaMessage.createProxy(
+                BenchmarkMessages.class,
+                this.format.config().withImplementationStrategy(this.strategy)
+        );
+    }
+
+    /**
+     * Invokes a method without arguments.
+     *
+     * @return the message
+     */
+    @Benchmark
+    public Component noArguments() {
+        return this.messages.noArguments();
+    }
+
+    /**
+     * Invokes a method with one argument.
+     *
+     * @return the message
+     */
+    @Benchmark
+    public Component oneArgument() {
+        return this.messages.oneArgument("Steve");
+    }
+
+    /**
+     * Invokes a method with eight arguments, half of them primitives.
+     *
+     * @return the message
+     */
+    @Benchmark
+    public Component eightArguments() {
+        return this.messages.eightArguments("Steve", 3, 42L, 0.5D, true, COMPONENT, "world", 7);
+    }
+}
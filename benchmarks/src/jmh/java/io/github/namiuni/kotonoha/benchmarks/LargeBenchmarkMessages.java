@@ -0,0 +1,227 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.benchmarks;
+
+import io.github.namiuni.kotonoha.annotations.Key;
+import net.kyori.adventure.text.Component;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * A large message interface, used to measure the cost of creating message instances.
+ */
+@NullMarked
+public interface LargeBenchmarkMessages {
+
+    @Key("benchmark.large.00")
+    Component message00();
+
+    @Key("benchmark.large.01")
+    Component message01(String name);
+
+    @Key("benchmark.large.02")
+    Component message02(String name, int count);
+
+    @Key("benchmark.large.03")
+    Component message03(String name, int count, Component component);
+
+    @Key("benchmark.large.04")
+    Component message04();
+
+    @Key("benchmark.large.05")
+    Component message05(String name);
+
+    @Key("benchmark.large.06")
+    Component message06(String name, int count);
+
+    @Key("benchmark.large.07")
+    Component message07(String name, int count, Component component);
+
+    @Key("benchmark.large.08")
+    Component message08();
+
+    @Key("benchmark.large.09")
+    Component message09(String name);
+
+    @Key("benchmark.large.10")
+    Component message10(String name, int count);
+
+    @Key("benchmark.large.11")
+    Component message11(String name, int count, Component component);
+
+    @Key("benchmark.large.12")
+    Component message12();
+
+    @Key("benchmark.large.13")
+    Component message13(String name);
+
+    @Key("benchmark.large.14")
+    Component message14(String name, int count);
+
+    @Key("benchmark.large.15")
+    Component message15(String name, int count, Component component);
+
+    @Key("benchmark.large.16")
+    Component message16();
+
+    @Key("benchmark.large.17")
+    Component message17(String name);
+
+    @Key("benchmark.large.18")
+    Component message18(String name, int count);
+
+    @Key("benchmark.large.19")
+    Component message19(String name, int count, Component component);
+
+    @Key("benchmark.large.20")
+    Component message20();
+
+    @Key("benchmark.large.21")
+    Component message21(String name);
+
+    @Key("benchmark.large.22")
+    Component message22(String name, int count);
+
+    @Key("benchmark.large.23")
+    Component message23(String name, int count, Component component);
+
+    @Key("benchmark.large.24")
+    Component message24();
+
+    @Key("benchmark.large.25")
+    Component message25(String name);
+
+    @Key("benchmark.large.26")
+    Component message26(String name, int count);
+
+    @Key("benchmark.large.27")
+    Component message27(String name, int count, Component component);
+
+    @Key("benchmark.large.28")
+    Component message28();
+
+    @Key("benchmark.large.29")
+    Component message29(String name);
+
+    @Key("benchmark.large.30")
+    Component message30(String name, int count);
+
+    @Key("benchmark.large.31")
+    Component message31(String name, int count, Component component);
+
+    @Key("benchmark.large.32")
+    Component message32();
+
+    @Key("benchmark.large.33")
+    Component message33(String name);
+
+    @Key("benchmark.large.34")
+    Component message34(String name, int count);
+
+    @Key("benchmark.large.35")
+    Component message35(String name, int count, Component component);
+
+    @Key("benchmark.large.36")
+    Component message36();
+
+    @Key("benchmark.large.37")
+    Component message37(String name);
+
+    @Key("benchmark.large.38")
+    Component message38(String name, int count);
+
+    @Key("benchmark.large.39")
+    Component message39(String name, int count, Component component);
+
+    @Key("benchmark.large.40")
+    Component message40();
+
+    @Key("benchmark.large.41")
+    Component message41(String name);
+
+    @Key("benchmark.large.42")
+    Component message42(String name, int count);
+
+    @Key("benchmark.large.43")
+    Component message43(String name, int count, Component component);
+
+    @Key("benchmark.large.44")
+    Component message44();
+
+    @Key("benchmark.large.45")
+    Component message45(String name);
+
+    @Key("benchmark.large.46")
+    Component message46(String name, int count);
+
+    @Key("benchmark.large.47")
+    Component message47(String name, int count, Component component);
+
+    @Key("benchmark.large.48")
+    Component message48();
+
+    @Key("benchmark.large.49")
+    Component message49(String name);
+
+    @Key("benchmark.large.50")
+    Component message50(String name, int count);
+
+    @Key("benchmark.large.51")
+    Component message51(String name, int count, Component component);
+
+    @Key("benchmark.large.52")
+    Component message52();
+
+    @Key("benchmark.large.53")
+    Component message53(String name);
+
+    @Key("benchmark.large.54")
+    Component message54(String name, int count);
+
+    @Key("benchmark.large.55")
+    Component message55(String name, int count, Component component);
+
+    @Key("benchmark.large.56")
+    Component message56();
+
+    @Key("benchmark.large.57")
+    Component message57(String name);
+
+    @Key("benchmark.large.58")
+    Component message58(String name, int count);
+
+    @Key("benchmark.large.59")
+    Component message59(String name, int count, Component component);
+
+    @Key("benchmark.large.60")
+    Component message60();
+
+    @Key("benchmark.large.61")
+    Component message61(String name);
+
+    @Key("benchmark.large.62")
+    Component message62(String name, int count);
+
+    @Key("benchmark.large.63")
+    Component message63(String name, int count, Component component);
+}
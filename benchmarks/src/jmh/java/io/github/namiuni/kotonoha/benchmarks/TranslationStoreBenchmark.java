@@ -0,0 +1,153 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.benchmarks;
+
+import io.github.namiuni.kotonoha.translatable.message.KotonohaMessage;
+import io.github.namiuni.kotonoha.translator.KotonohaTranslationStore;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.renderer.TranslatableComponentRenderer;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures translation lookups and rendering of {@link KotonohaTranslationStore}s.
+ */
+@NullMarked
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslationStoreBenchmark {
+
+    private static final Locale LOCALE = Locale.US;
+    private static final Locale FALLBACK_LOCALE = Locale.UK;
+
+    /**
+     * The message format under test.
+     */
+    @Param({"MESSAGE_FORMAT", "MINI_MESSAGE"})
+    public BenchmarkFormat format = BenchmarkFormat.MESSAGE_FORMAT;
+
+    private KotonohaTranslationStore<?> store;
+    private TranslatableComponentRenderer<Locale> renderer;
+    private TranslatableComponent noArguments;
+    private TranslatableComponent eightArguments;
+
+    /**
+     * Registers the benchmark messages and creates the components to translate.
+     */
+    @Setup
+    public void setup() {
+        this.store = this.format.createStore();
+        this.store.registerInterface(BenchmarkMessages.class);
+        this.renderer = TranslatableComponentRenderer.usingTranslationSource(this.store);
+
+        final BenchmarkMessages messages = KotonohaMessage.createProxy(BenchmarkMessages.class, this.format.config());
+        this.noArguments = (TranslatableComponent) messages.noArguments();
+        this.eightArguments = (TranslatableComponent) messages.eightArguments(
+                "Steve", 3, 42L, 0.5D, true, Component.text("component"), "world", 7
+        );
+    }
+
+    /**
+     * Looks up the {@link java.text.MessageFormat} of a key.
+     * <p>
+     * Always {@code null} for MiniMessage stores, which only translate components.
+     *
+     * @return the message format
+     */
+    @Benchmark
+    public @Nullable Object translateKey() {
+        return this.store.translate(this.noArguments.key(), LOCALE);
+    }
+
+    /**
+     * Looks up the {@link java.text.MessageFormat} of a key for a locale without translations, which falls back to the
+     * default locale.
+     *
+     * @return the message format
+     */
+    @Benchmark
+    public @Nullable Object translateKeyFallback() {
+        return this.store.translate(this.noArguments.key(), FALLBACK_LOCALE);
+    }
+
+    /**
+     * Looks up a key that is not registered.
+     *
+     * @return always {@code null}
+     */
+    @Benchmark
+    public @Nullable Object translateMissingKey() {
+        return this.store.translate("missing.key", LOCALE);
+    }
+
+    /**
+     * Translates a component with eight arguments.
+     * <p>
+     * Always {@code null} for {@link java.text.MessageFormat} stores, which only translate keys.
+     *
+     * @return the translated component
+     */
+    @Benchmark
+    public @Nullable Component translateComponent() {
+        return this.store.translate(this.eightArguments, LOCALE);
+    }
+
+    /**
+     * Renders a component without arguments.
+     *
+     * @return the rendered component
+     */
+    @Benchmark
+    public Component renderNoArguments() {
+        return this.renderer.render(this.noArguments, LOCALE);
+    }
+
+    /**
+     * Renders a component with eight arguments.
+     *
+     * @return the rendered component
+     */
+    @Benchmark
+    public Component renderEightArguments() {
+        return this.renderer.render(this.eightArguments, LOCALE);
+    }
+}
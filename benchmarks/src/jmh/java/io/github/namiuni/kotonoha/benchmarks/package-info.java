@@ -0,0 +1,4 @@
+/**
+ * JMH benchmarks for the kotonoha hot paths.
+ */
+package io.github.namiuni.kotonoha.benchmarks;
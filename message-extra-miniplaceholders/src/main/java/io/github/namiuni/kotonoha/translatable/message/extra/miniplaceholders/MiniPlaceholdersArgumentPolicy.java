@@ -31,10 +31,12 @@ import io.github.namiuni.kotonoha.translatable.message.policy.argument.tag.TagNa
 import io.github.namiuni.kotonoha.translatable.message.utility.TranslationArgumentAdapter;
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.function.Function;
 import net.kyori.adventure.text.ComponentLike;
 import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 import net.kyori.adventure.text.minimessage.translation.Argument;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 /**
  * A policy that integrates {@code MiniPlaceholders} tag resolvers into the translation argument
@@ -112,11 +114,41 @@ public final class MiniPlaceholdersArgumentPolicy implements TranslationArgument
             return standardArguments;
         }
 
-        final ComponentLike[] placeholdersIncludedArguments = Arrays.copyOf(standardArguments, standardArguments.length + 1);
+        final WithPlaceholders placeholderAnnotation = method.getAnnotation(WithPlaceholders.class);
+        return appendPlaceholders(standardArguments, placeholderAnnotation.value());
+    }
+
+    @Override
+    public Function<@Nullable Object[], ComponentLike[]> compile(final Method method) {
+        final Function<@Nullable Object[], ComponentLike[]> standardAdaptation = this.minimessagePolicy.compile(method);
+
+        if (!MiniPlaceholdersIntegration.miniPlaceholdersLoaded()) {
+            return standardAdaptation;
+        }
 
-        // Gets the MiniPlaceholders placeholders
         final WithPlaceholders placeholderAnnotation = method.getAnnotation(WithPlaceholders.class);
+        if (placeholderAnnotation == null) {
+            return standardAdaptation;
+        }
+
         final PlaceholderScope placeholderScope = placeholderAnnotation.value();
+        return args -> appendPlaceholders(standardAdaptation.apply(args), placeholderScope);
+    }
+
+    @Override
+    public boolean isPure(final Method method) {
+        // Placeholders are resolved against the current state of MiniPlaceholders
+        if (MiniPlaceholdersIntegration.miniPlaceholdersLoaded() && method.isAnnotationPresent(WithPlaceholders.class)) {
+            return false;
+        }
+
+        return this.minimessagePolicy.isPure(method);
+    }
+
+    private static ComponentLike[] appendPlaceholders(final ComponentLike[] standardArguments, final PlaceholderScope placeholderScope) {
+        final ComponentLike[] placeholdersIncludedArguments = Arrays.copyOf(standardArguments, standardArguments.length + 1);
+
+        // Gets the MiniPlaceholders placeholders
         final TagResolver placeholders = placeholderScope.placeholders();
 
         // Add the placeholder argument
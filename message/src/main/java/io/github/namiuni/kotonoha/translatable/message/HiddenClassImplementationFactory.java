@@ -0,0 +1,338 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translatable.message;
+
+import io.github.namiuni.kotonoha.translatable.message.configuration.InvocationConfiguration;
+import java.lang.classfile.ClassBuilder;
+import java.lang.classfile.ClassFile;
+import java.lang.classfile.ClassHierarchyResolver;
+import java.lang.classfile.CodeBuilder;
+import java.lang.classfile.Label;
+import java.lang.classfile.TypeKind;
+import java.lang.constant.ClassDesc;
+import java.lang.constant.ConstantDescs;
+import java.lang.constant.MethodTypeDesc;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import net.kyori.adventure.text.ComponentLike;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/*
+ * Spins a hidden class implementing a message interface with the ClassFile API.
+ *
+ * The generated class is equivalent to the implementations generated at compile time:
+ * one final field per method holding its InvocationPlan, and one concrete method body
+ * per interface method that adapts each argument through the plan when it is direct,
+ * and otherwise boxes the arguments and dispatches to the plan.
+ *
+ * The class is defined in the package and class loader of the interface, through a private
+ * lookup on it. Defining a class needs full privilege access, which a lookup only keeps on the
+ * classes of its own module: kotonoha's lookup covers interfaces of its own module, and interfaces
+ * of other modules, such as those of plugins loaded by other class loaders, need a lookup of their
+ * module passed by the caller.
+ */
+@NullMarked
+final class HiddenClassImplementationFactory {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final String HIDDEN_IMPLEMENTATION_NAME = "KotonohaHiddenImplementation";
+
+    private static final ClassDesc CD_INVOCATION_PLAN = ClassDesc.of(InvocationPlan.class.getName());
+    private static final ClassDesc CD_COMPONENT_LIKE = ClassDesc.of(ComponentLike.class.getName());
+    private static final MethodTypeDesc MTD_CONSTRUCTOR = MethodTypeDesc.of(ConstantDescs.CD_void, CD_INVOCATION_PLAN.arrayType());
+    private static final MethodTypeDesc MTD_INVOKE = MethodTypeDesc.of(ConstantDescs.CD_Object);
+    private static final MethodTypeDesc MTD_INVOKE_ARGUMENTS = MethodTypeDesc.of(ConstantDescs.CD_Object, ConstantDescs.CD_Object.arrayType());
+    private static final MethodTypeDesc MTD_INVOKE_ADAPTED = MethodTypeDesc.of(ConstantDescs.CD_Object, CD_COMPONENT_LIKE.arrayType());
+    private static final MethodTypeDesc MTD_DIRECT = MethodTypeDesc.of(ConstantDescs.CD_boolean);
+    private static final MethodTypeDesc MTD_ADAPT = MethodTypeDesc.of(CD_COMPONENT_LIKE, ConstantDescs.CD_int, ConstantDescs.CD_Object);
+    private static final MethodTypeDesc MTD_ADAPT_INT = MethodTypeDesc.of(CD_COMPONENT_LIKE, ConstantDescs.CD_int, ConstantDescs.CD_int);
+    private static final MethodTypeDesc MTD_ADAPT_LONG = MethodTypeDesc.of(CD_COMPONENT_LIKE, ConstantDescs.CD_int, ConstantDescs.CD_long);
+    private static final MethodTypeDesc MTD_ADAPT_DOUBLE = MethodTypeDesc.of(CD_COMPONENT_LIKE, ConstantDescs.CD_int, ConstantDescs.CD_double);
+
+    private static final String INVOKE_METHOD_NAME = "invoke";
+    private static final String INVOKE_ADAPTED_METHOD_NAME = "invokeAdapted";
+    private static final String DIRECT_METHOD_NAME = "direct";
+    private static final String PLAN_FIELD_PREFIX = "plan";
+
+    private HiddenClassImplementationFactory() {
+    }
+
+    // Returns why the interface cannot be implemented with a hidden class, or null if it can.
+    // The caller lookup is kotonoha's own when null.
+    static @Nullable String unsupportedReason(
+            final Class<?> interfaceType,
+            final List<Method> methods,
+            final MethodHandles.@Nullable Lookup caller
+    ) {
+        final MethodHandles.Lookup lookup;
+        try {
+            lookup = lookupIn(interfaceType, caller);
+        } catch (final IllegalAccessException exception) {
+            return caller == null
+                    ? "package '%s' is not open to kotonoha".formatted(interfaceType.getPackageName())
+                    : "package '%s' is not accessible from the lookup".formatted(interfaceType.getPackageName());
+        }
+
+        if (!lookup.hasFullPrivilegeAccess()) {
+            return caller == null
+                    ? "it is not in the module of kotonoha, pass a full privilege lookup of its module"
+                    : "the lookup does not have full privilege access in the module of the interface";
+        }
+
+        for (final Method method : methods) {
+            final List<Class<?>> types = new ArrayList<>(List.of(method.getParameterTypes()));
+            types.add(method.getReturnType());
+            for (final Class<?> type : types) {
+                if (!isAccessible(lookup, type)) {
+                    return "type '%s' of method '%s' is not accessible from the package of the interface".formatted(type.getName(), method.getName());
+                }
+            }
+        }
+
+        return null;
+    }
+
+    static <I> I create(
+            final Class<I> interfaceType,
+            final List<Method> methods,
+            final InvocationConfiguration config,
+            final MethodHandles.@Nullable Lookup caller
+    ) throws IllegalStateException {
+
+        // Methods inherited from several super interfaces share a single implementation
+        final List<Method> implementedMethods = new ArrayList<>();
+        final Set<String> signatures = new HashSet<>();
+        for (final Method method : methods) {
+            if (signatures.add(method.getName() + describe(method).descriptorString())) {
+                implementedMethods.add(method);
+            }
+        }
+
+        final InvocationPlan[] plans = new InvocationPlan[implementedMethods.size()];
+        for (int index = 0; index < plans.length; index++) {
+            plans[index] = InvocationPlan.compile(implementedMethods.get(index), config);
+        }
+
+        final ClassDesc hiddenType = ClassDesc.of(interfaceType.getPackageName(), HIDDEN_IMPLEMENTATION_NAME);
+        final @Nullable ClassLoader classLoader = interfaceType.getClassLoader();
+        final ClassHierarchyResolver resolver = classLoader == null
+                ? ClassHierarchyResolver.defaultResolver()
+                : ClassHierarchyResolver.ofClassLoading(classLoader);
+        final byte[] bytes = ClassFile.of(ClassFile.ClassHierarchyResolverOption.of(resolver)).build(
+                hiddenType,
+                classBuilder -> generateClass(classBuilder, hiddenType, interfaceType, implementedMethods)
+        );
+
+        try {
+            final Class<?> hiddenClass = lookupIn(interfaceType, caller).defineHiddenClass(bytes, true).lookupClass();
+            final Object instance = hiddenClass.getConstructor(InvocationPlan[].class).newInstance((Object) plans);
+            return interfaceType.cast(instance);
+        } catch (final InvocationTargetException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            final String message = "Failed to instantiate hidden implementation of '%s'".formatted(interfaceType.getName());
+            throw new IllegalStateException(message, exception.getCause());
+        } catch (final ReflectiveOperationException exception) {
+            final String message = "Failed to define hidden implementation of '%s'".formatted(interfaceType.getName());
+            throw new IllegalStateException(message, exception);
+        }
+    }
+
+    private static MethodHandles.Lookup lookupIn(
+            final Class<?> interfaceType,
+            final MethodHandles.@Nullable Lookup caller
+    ) throws IllegalAccessException {
+        if (caller != null) {
+            return MethodHandles.privateLookupIn(interfaceType, caller);
+        }
+
+        // A named kotonoha module has to read the module of the interface
+        LOOKUP.lookupClass().getModule().addReads(interfaceType.getModule());
+        return MethodHandles.privateLookupIn(interfaceType, LOOKUP);
+    }
+
+    private static void generateClass(
+            final ClassBuilder classBuilder,
+            final ClassDesc hiddenType,
+            final Class<?> interfaceType,
+            final List<Method> methods
+    ) {
+        classBuilder.withFlags(ClassFile.ACC_PUBLIC | ClassFile.ACC_FINAL | ClassFile.ACC_SYNTHETIC)
+                .withSuperclass(ConstantDescs.CD_Object)
+                .withInterfaceSymbols(describe(interfaceType));
+
+        for (int index = 0; index < methods.size(); index++) {
+            classBuilder.withField(PLAN_FIELD_PREFIX + index, CD_INVOCATION_PLAN, ClassFile.ACC_PRIVATE | ClassFile.ACC_FINAL);
+        }
+
+        classBuilder.withMethodBody(ConstantDescs.INIT_NAME, MTD_CONSTRUCTOR, ClassFile.ACC_PUBLIC, code -> {
+            code.aload(0).invokespecial(ConstantDescs.CD_Object, ConstantDescs.INIT_NAME, ConstantDescs.MTD_void);
+            for (int index = 0; index < methods.size(); index++) {
+                code.aload(0)
+                        .aload(1)
+                        .loadConstant(index)
+                        .aaload()
+                        .putfield(hiddenType, PLAN_FIELD_PREFIX + index, CD_INVOCATION_PLAN);
+            }
+            code.return_();
+        });
+
+        for (int index = 0; index < methods.size(); index++) {
+            final Method method = methods.get(index);
+            final String planField = PLAN_FIELD_PREFIX + index;
+            classBuilder.withMethodBody(
+                    method.getName(),
+                    describe(method),
+                    ClassFile.ACC_PUBLIC | ClassFile.ACC_FINAL,
+                    code -> generateMethod(code, hiddenType, planField, method)
+            );
+        }
+    }
+
+    private static void generateMethod(final CodeBuilder code, final ClassDesc hiddenType, final String planField, final Method method) {
+        final Class<?>[] parameterTypes = method.getParameterTypes();
+
+        // return this.planN.invoke()
+        if (parameterTypes.length == 0) {
+            code.aload(0)
+                    .getfield(hiddenType, planField, CD_INVOCATION_PLAN)
+                    .invokevirtual(CD_INVOCATION_PLAN, INVOKE_METHOD_NAME, MTD_INVOKE);
+            returnResult(code, method.getReturnType());
+            return;
+        }
+
+        // if (this.planN.direct()) return this.planN.invokeAdapted(new ComponentLike[] {this.planN.adaptX(i, args[i])...})
+        final Label boxed = code.newLabel();
+        code.aload(0)
+                .getfield(hiddenType, planField, CD_INVOCATION_PLAN)
+                .invokevirtual(CD_INVOCATION_PLAN, DIRECT_METHOD_NAME, MTD_DIRECT)
+                .ifeq(boxed);
+
+        code.aload(0)
+                .getfield(hiddenType, planField, CD_INVOCATION_PLAN)
+                .loadConstant(parameterTypes.length)
+                .anewarray(CD_COMPONENT_LIKE);
+        for (int index = 0; index < parameterTypes.length; index++) {
+            final Class<?> parameterType = parameterTypes[index];
+            code.dup()
+                    .loadConstant(index)
+                    .aload(0)
+                    .getfield(hiddenType, planField, CD_INVOCATION_PLAN)
+                    .loadConstant(index)
+                    .loadLocal(TypeKind.from(describe(parameterType)), code.parameterSlot(index));
+            if (parameterType == int.class) {
+                code.invokevirtual(CD_INVOCATION_PLAN, "adaptInt", MTD_ADAPT_INT);
+            } else if (parameterType == long.class) {
+                code.invokevirtual(CD_INVOCATION_PLAN, "adaptLong", MTD_ADAPT_LONG);
+            } else if (parameterType == double.class) {
+                code.invokevirtual(CD_INVOCATION_PLAN, "adaptDouble", MTD_ADAPT_DOUBLE);
+            } else {
+                // Other primitives are boxed for the generic adapter
+                box(code, parameterType);
+                code.invokevirtual(CD_INVOCATION_PLAN, "adapt", MTD_ADAPT);
+            }
+            code.aastore();
+        }
+        code.invokevirtual(CD_INVOCATION_PLAN, INVOKE_ADAPTED_METHOD_NAME, MTD_INVOKE_ADAPTED);
+        returnResult(code, method.getReturnType());
+
+        // return this.planN.invoke(new Object[] {args...})
+        code.labelBinding(boxed);
+        code.aload(0)
+                .getfield(hiddenType, planField, CD_INVOCATION_PLAN)
+                .loadConstant(parameterTypes.length)
+                .anewarray(ConstantDescs.CD_Object);
+        for (int index = 0; index < parameterTypes.length; index++) {
+            final Class<?> parameterType = parameterTypes[index];
+            code.dup()
+                    .loadConstant(index)
+                    .loadLocal(TypeKind.from(describe(parameterType)), code.parameterSlot(index));
+            box(code, parameterType);
+            code.aastore();
+        }
+        code.invokevirtual(CD_INVOCATION_PLAN, INVOKE_METHOD_NAME, MTD_INVOKE_ARGUMENTS);
+        returnResult(code, method.getReturnType());
+    }
+
+    private static void box(final CodeBuilder code, final Class<?> type) {
+        if (type.isPrimitive()) {
+            final ClassDesc wrapperType = describe(wrap(type));
+            code.invokestatic(wrapperType, "valueOf", MethodTypeDesc.of(wrapperType, describe(type)));
+        }
+    }
+
+    // Cast the result to the return type
+    private static void returnResult(final CodeBuilder code, final Class<?> returnType) {
+        if (returnType == void.class) {
+            code.pop().return_();
+        } else if (returnType.isPrimitive()) {
+            final ClassDesc wrapperType = describe(wrap(returnType));
+            code.checkcast(wrapperType)
+                    .invokevirtual(wrapperType, returnType.getName() + "Value", MethodTypeDesc.of(describe(returnType)))
+                    .return_(TypeKind.from(describe(returnType)));
+        } else {
+            code.checkcast(describe(returnType)).areturn();
+        }
+    }
+
+    // The type must be accessible from the package of the interface
+    private static boolean isAccessible(final MethodHandles.Lookup lookup, final Class<?> type) {
+        Class<?> elementType = type;
+        while (elementType.isArray()) {
+            elementType = elementType.getComponentType();
+        }
+
+        if (elementType.isPrimitive()) {
+            return true;
+        }
+
+        try {
+            lookup.accessClass(elementType);
+            return true;
+        } catch (final IllegalAccessException ignored) {
+            return false;
+        }
+    }
+
+    private static Class<?> wrap(final Class<?> primitiveType) {
+        return MethodType.methodType(primitiveType).wrap().returnType();
+    }
+
+    private static ClassDesc describe(final Class<?> type) {
+        return type.describeConstable().orElseThrow();
+    }
+
+    private static MethodTypeDesc describe(final Method method) {
+        return MethodType.methodType(method.getReturnType(), method.getParameterTypes()).describeConstable().orElseThrow();
+    }
+}
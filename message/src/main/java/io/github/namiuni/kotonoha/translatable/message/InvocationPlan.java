@@ -0,0 +1,439 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translatable.message;
+
+import io.github.namiuni.kotonoha.translatable.message.configuration.InvocationConfiguration;
+import io.github.namiuni.kotonoha.translatable.message.context.InvocationContext;
+import io.github.namiuni.kotonoha.translatable.message.metrics.InvocationListener;
+import io.github.namiuni.kotonoha.translatable.message.policy.argument.TranslationArgumentAdaptationPolicy;
+import io.github.namiuni.kotonoha.translatable.message.policy.key.TranslationKeyResolutionPolicy;
+import io.github.namiuni.kotonoha.translatable.message.policy.result.ResultComponentTransformationPolicy;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.DoubleFunction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
+import jdk.jfr.EventType;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.TranslatableComponent;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.UnknownNullability;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The immutable, precompiled form of a message interface method.
+ * <p>
+ * Everything that only depends on the method signature and the policies (parameters,
+ * translation key, per-parameter adapters and argument names, result transformation)
+ * is resolved once while the message instance is created, so that an invocation
+ * does not have to reflect on the method. The built-in policies work on the raw
+ * arguments, an {@link InvocationContext} is only created for custom policies that do not
+ * compile their invocations, once per invocation and shared between them. Results of methods without parameters are
+ * created once and reused when all policies are pure and
+ * {@link InvocationConfiguration#constantResultCaching()} is enabled. Invocations are only
+ * timed when an {@link InvocationConfiguration#invocationListener() invocation listener} is configured
+ * or a flight recording with the {@code io.github.namiuni.kotonoha.Invocation} event enabled is running.
+ * <p>
+ * When the policies {@linkplain #direct() allow it}, generated implementations adapt each argument
+ * with {@link #adapt(int, Object)}, {@link #adaptInt(int, int)}, {@link #adaptLong(int, long)} or
+ * {@link #adaptDouble(int, double)} and pass the adapted arguments to {@link #invokeAdapted(ComponentLike[])},
+ * so that arguments are neither boxed nor collected into an array.
+ * <p>
+ * This class is used by the reflective proxy, by hidden classes generated at runtime and by
+ * implementations generated at compile time.
+ *
+ * @since 0.3.0
+ */
+@NullMarked
+@ApiStatus.Internal
+public final class InvocationPlan {
+
+    private static final @Nullable Object[] EMPTY_OBJECT_ARRAY = new Object[0];
+    // Checked instead of creating an event on every invocation
+    private static final EventType INVOCATION_EVENT = EventType.getEventType(KotonohaInvocationEvent.class);
+
+    private final Method method;
+    private final Parameter[] parameters;
+    private final int parameterCount;
+
+    // Compiled functions, or null when the policy works on the shared invocation context
+    private final @Nullable Function<@Nullable Object[], String> keyResolver;
+    private final @Nullable Function<@Nullable Object[], ComponentLike[]> argumentAdapter;
+    private final @Nullable BiFunction<TranslatableComponent, @Nullable Object[], @UnknownNullability Object> resultTransformer;
+    private final TranslationKeyResolutionPolicy keyPolicy;
+    private final TranslationArgumentAdaptationPolicy argumentPolicy;
+    private final ResultComponentTransformationPolicy resultPolicy;
+    private final boolean contextual;
+
+    // Adapter of each parameter, an IntFunction, LongFunction or DoubleFunction for int, long and double
+    // parameters, or null when the arguments can only be adapted together
+    private final Object @Nullable [] parameterAdapters;
+    private final boolean direct;
+
+    private final boolean constant;
+    private final @Nullable InvocationListener listener;
+
+    // Racy single-check: the result is immutable and recomputing it yields an equal value
+    private @Nullable ConstantResult constantResult;
+
+    private InvocationPlan(final Method method, final InvocationConfiguration config) {
+        this.method = method;
+        this.parameters = method.getParameters();
+        this.parameterCount = this.parameters.length;
+        this.keyPolicy = config.keyPolicy();
+        this.argumentPolicy = config.argumentPolicy();
+        this.resultPolicy = config.resultPolicy();
+        this.keyResolver = overridesCompile(this.keyPolicy, TranslationKeyResolutionPolicy.class)
+                ? this.keyPolicy.compile(method)
+                : null;
+        this.argumentAdapter = overridesCompile(this.argumentPolicy, TranslationArgumentAdaptationPolicy.class)
+                ? this.argumentPolicy.compile(method)
+                : null;
+        this.resultTransformer = overridesCompile(this.resultPolicy, ResultComponentTransformationPolicy.class)
+                ? this.resultPolicy.compile(method)
+                : null;
+        this.contextual = this.keyResolver == null || this.argumentAdapter == null || this.resultTransformer == null;
+        this.constant = config.constantResultCaching()
+                && this.parameterCount == 0
+                && config.keyPolicy().isPure(method)
+                && config.argumentPolicy().isPure(method)
+                && config.resultPolicy().isPure(method);
+        this.listener = config.invocationListener();
+        this.parameterAdapters = compileParameterAdapters(this.argumentPolicy, method, this.parameters);
+        this.direct = this.parameterAdapters != null
+                && this.parameterCount > 0
+                && this.keyResolver != null
+                && !this.keyPolicy.usesArguments(method)
+                && this.resultTransformer != null
+                && !this.resultPolicy.usesArguments(method)
+                && this.listener == null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object @Nullable [] compileParameterAdapters(
+            final TranslationArgumentAdaptationPolicy policy,
+            final Method method,
+            final Parameter[] parameters
+    ) {
+        final @Nullable List<Function<Object, ? extends ComponentLike>> adapters = policy.compileParameters(method);
+        if (adapters == null) {
+            return null;
+        }
+
+        if (adapters.size() != parameters.length) {
+            final String message = "Policy '%s' compiled %d adapters for the %d parameters of method '%s'";
+            throw new IllegalStateException(message.formatted(policy.getClass().getName(), adapters.size(), parameters.length, method.getName()));
+        }
+
+        final Object[] compiledAdapters = new Object[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            final Function<Object, ? extends ComponentLike> adapter = Objects.requireNonNull(adapters.get(i), parameters[i].getName());
+            final Class<?> parameterType = parameters[i].getType();
+
+            // Adapters that are not specialized box the primitive value
+            if (parameterType == int.class) {
+                compiledAdapters[i] = adapter instanceof IntFunction<?> ? adapter : (IntFunction<ComponentLike>) adapter::apply;
+            } else if (parameterType == long.class) {
+                compiledAdapters[i] = adapter instanceof LongFunction<?> ? adapter : (LongFunction<ComponentLike>) adapter::apply;
+            } else if (parameterType == double.class) {
+                compiledAdapters[i] = adapter instanceof DoubleFunction<?> ? adapter : (DoubleFunction<ComponentLike>) adapter::apply;
+            } else {
+                compiledAdapters[i] = adapter;
+            }
+        }
+        return compiledAdapters;
+    }
+
+    // The default compile of a policy creates its own context per invocation
+    private static boolean overridesCompile(final Object policy, final Class<?> policyType) {
+        try {
+            return policy.getClass().getMethod("compile", Method.class).getDeclaringClass() != policyType;
+        } catch (final NoSuchMethodException exception) {
+            throw new IllegalStateException("Missing method 'compile' on policy '%s'".formatted(policy.getClass().getName()), exception);
+        }
+    }
+
+    /**
+     * Compiles the invocation plan of a method that has been validated against the configuration.
+     *
+     * @param method the method
+     * @param config the invocation configuration
+     * @return the invocation plan
+     * @since 0.3.0
+     */
+    @ApiStatus.Internal
+    public static InvocationPlan compile(final Method method, final InvocationConfiguration config) {
+        Objects.requireNonNull(method, "method");
+        Objects.requireNonNull(config, "config");
+        return new InvocationPlan(method, config);
+    }
+
+    /**
+     * Compiles the invocation plan of the public method with the specified signature.
+     *
+     * @param interfaceType  the message interface
+     * @param name           the method name
+     * @param parameterTypes the erased parameter types of the method
+     * @param config         the invocation configuration
+     * @return the invocation plan
+     * @throws IllegalStateException if the method does not exist
+     * @since 0.3.0
+     */
+    @ApiStatus.Internal
+    public static InvocationPlan compile(
+            final Class<?> interfaceType,
+            final String name,
+            final Class<?>[] parameterTypes,
+            final InvocationConfiguration config
+    ) throws IllegalStateException {
+        try {
+            return InvocationPlan.compile(interfaceType.getMethod(name, parameterTypes), config);
+        } catch (final NoSuchMethodException exception) {
+            final String message = "Missing method '%s' on interface '%s'".formatted(name, interfaceType.getName());
+            throw new IllegalStateException(message, exception);
+        }
+    }
+
+    /**
+     * Invokes the plan for a method without parameters.
+     *
+     * @return the return value of the method
+     * @since 0.3.0
+     */
+    @ApiStatus.Internal
+    public @UnknownNullability Object invoke() {
+        return this.invoke(EMPTY_OBJECT_ARRAY);
+    }
+
+    /**
+     * Invokes the plan with the specified arguments.
+     *
+     * @param args the arguments passed to the method
+     * @return the return value of the method
+     * @throws IllegalArgumentException if any argument cannot be adapted
+     * @throws NullPointerException     if any required argument is null
+     * @since 0.3.0
+     */
+    @ApiStatus.Internal
+    public @UnknownNullability Object invoke(final @Nullable Object[] args) throws IllegalArgumentException, NullPointerException {
+        if (this.constant) {
+            final @Nullable ConstantResult cachedResult = this.constantResult;
+            if (cachedResult != null) {
+                if (this.listener != null) {
+                    this.listener.onCachedInvocation(this.method);
+                }
+                if (INVOCATION_EVENT.isEnabled()) {
+                    final KotonohaInvocationEvent event = new KotonohaInvocationEvent();
+                    if (event.shouldCommit()) {
+                        event.set(this.method, cachedResult.key(), true);
+                        event.commit();
+                    }
+                }
+                return cachedResult.result();
+            }
+            final Object result = this.createResult(args);
+            if (result != null) {
+                // The key policy is pure for a constant plan, so resolving the key again yields the key of the result
+                this.constantResult = new ConstantResult(result, this.resolveKey(args, this.context(args)));
+            }
+            return result;
+        }
+
+        return this.createResult(args);
+    }
+
+    /**
+     * Returns whether the arguments of an invocation can be adapted one by one and passed to {@link #invokeAdapted(ComponentLike[])}.
+     * <p>
+     * This is the case when the argument policy compiles an adapter per parameter, the key and result policies
+     * do not read the arguments, and the invocation is not observed. Otherwise, {@link #invoke(Object[])} must be used.
+     *
+     * @return {@code true} if the arguments can be adapted one by one
+     * @since 0.3.0
+     */
+    @ApiStatus.Internal
+    public boolean direct() {
+        return this.direct && !INVOCATION_EVENT.isEnabled();
+    }
+
+    /**
+     * Adapts the argument of a parameter, if the plan is {@linkplain #direct() direct}.
+     *
+     * @param index the index of the parameter
+     * @param value the argument
+     * @return the adapted argument
+     * @throws IllegalArgumentException if the argument cannot be adapted
+     * @throws NullPointerException     if the argument is null
+     * @since 0.3.0
+     */
+    @ApiStatus.Internal
+    @SuppressWarnings("unchecked")
+    public ComponentLike adapt(final int index, final @Nullable Object value) throws IllegalArgumentException, NullPointerException {
+        Objects.requireNonNull(value, this.parameters[index].getName());
+        return ((Function<Object, ? extends ComponentLike>) Objects.requireNonNull(this.parameterAdapters)[index]).apply(value);
+    }
+
+    /**
+     * Adapts the argument of an {@code int} parameter without boxing it, if the plan is {@linkplain #direct() direct}.
+     *
+     * @param index the index of the parameter
+     * @param value the argument
+     * @return the adapted argument
+     * @since 0.3.0
+     */
+    @ApiStatus.Internal
+    @SuppressWarnings("unchecked")
+    public ComponentLike adaptInt(final int index, final int value) {
+        return ((IntFunction<? extends ComponentLike>) Objects.requireNonNull(this.parameterAdapters)[index]).apply(value);
+    }
+
+    /**
+     * Adapts the argument of a {@code long} parameter without boxing it, if the plan is {@linkplain #direct() direct}.
+     *
+     * @param index the index of the parameter
+     * @param value the argument
+     * @return the adapted argument
+     * @since 0.3.0
+     */
+    @ApiStatus.Internal
+    @SuppressWarnings("unchecked")
+    public ComponentLike adaptLong(final int index, final long value) {
+        return ((LongFunction<? extends ComponentLike>) Objects.requireNonNull(this.parameterAdapters)[index]).apply(value);
+    }
+
+    /**
+     * Adapts the argument of a {@code double} parameter without boxing it, if the plan is {@linkplain #direct() direct}.
+     *
+     * @param index the index of the parameter
+     * @param value the argument
+     * @return the adapted argument
+     * @since 0.3.0
+     */
+    @ApiStatus.Internal
+    @SuppressWarnings("unchecked")
+    public ComponentLike adaptDouble(final int index, final double value) {
+        return ((DoubleFunction<? extends ComponentLike>) Objects.requireNonNull(this.parameterAdapters)[index]).apply(value);
+    }
+
+    /**
+     * Invokes a {@linkplain #direct() direct} plan with the adapted arguments.
+     *
+     * @param arguments the adapted arguments, in parameter order
+     * @return the return value of the method
+     * @since 0.3.0
+     */
+    @ApiStatus.Internal
+    public @UnknownNullability Object invokeAdapted(final ComponentLike[] arguments) {
+        // Neither the key nor the result policy reads the raw arguments
+        final String key = Objects.requireNonNull(this.keyResolver).apply(EMPTY_OBJECT_ARRAY);
+        final TranslatableComponent component = Component.translatable(key, arguments);
+        return Objects.requireNonNull(this.resultTransformer).apply(component, EMPTY_OBJECT_ARRAY);
+    }
+
+    private @UnknownNullability Object createResult(final @Nullable Object[] args) {
+        if (args.length != this.parameterCount) {
+            throw new IllegalArgumentException(
+                    "args length %d does not match parameter count %d for method '%s'"
+                            .formatted(args.length, this.parameterCount, this.method.getName())
+            );
+        }
+
+        final @Nullable InvocationContext context = this.context(args);
+        if (this.listener != null || INVOCATION_EVENT.isEnabled()) {
+            return this.createObservedResult(args, context, new KotonohaInvocationEvent());
+        }
+
+        final String key = this.resolveKey(args, context);
+        final ComponentLike[] arguments = this.adaptArguments(args, context);
+        final TranslatableComponent component = Component.translatable(key, arguments);
+
+        return this.transformResult(component, args, context);
+    }
+
+    private @UnknownNullability Object createObservedResult(
+            final @Nullable Object[] args,
+            final @Nullable InvocationContext context,
+            final KotonohaInvocationEvent event
+    ) {
+        event.begin();
+        final String key = this.resolveKey(args, context);
+
+        final long adaptationStart = System.nanoTime();
+        final ComponentLike[] arguments = this.adaptArguments(args, context);
+        final long adaptationNanos = System.nanoTime() - adaptationStart;
+
+        final TranslatableComponent component = Component.translatable(key, arguments);
+
+        final long transformationStart = System.nanoTime();
+        final Object result = this.transformResult(component, args, context);
+        final long transformationNanos = System.nanoTime() - transformationStart;
+
+        if (this.listener != null) {
+            this.listener.onInvocation(this.method, adaptationNanos, transformationNanos);
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.set(this.method, key, false);
+            event.commit();
+        }
+        return result;
+    }
+
+    private @Nullable InvocationContext context(final @Nullable Object[] args) {
+        return this.contextual ? InvocationContext.of(this.method, this.parameters, args) : null;
+    }
+
+    private String resolveKey(final @Nullable Object[] args, final @Nullable InvocationContext context) {
+        return this.keyResolver != null
+                ? this.keyResolver.apply(args)
+                : this.keyPolicy.resolveKey(Objects.requireNonNull(context));
+    }
+
+    private ComponentLike[] adaptArguments(final @Nullable Object[] args, final @Nullable InvocationContext context) {
+        return this.argumentAdapter != null
+                ? this.argumentAdapter.apply(args)
+                : this.argumentPolicy.adaptArgumentArray(Objects.requireNonNull(context));
+    }
+
+    private @UnknownNullability Object transformResult(
+            final TranslatableComponent component,
+            final @Nullable Object[] args,
+            final @Nullable InvocationContext context
+    ) {
+        return this.resultTransformer != null
+                ? this.resultTransformer.apply(component, args)
+                : this.resultPolicy.transformComponent(component, Objects.requireNonNull(context));
+    }
+
+    // The key is kept with the result, so that recording a cached invocation does not resolve it again
+    private record ConstantResult(Object result, String key) {
+    }
+}
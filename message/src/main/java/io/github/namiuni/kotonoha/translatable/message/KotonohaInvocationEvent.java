@@ -0,0 +1,68 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translatable.message;
+
+import java.lang.reflect.Method;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+// Emitted for every invocation of a message method while a flight recording is running
+@NullMarked
+@Name("io.github.namiuni.kotonoha.Invocation")
+@Label("Kotonoha Invocation")
+@Category({"Kotonoha", "Message"})
+@Description("Invocation of a message interface method")
+@StackTrace(false)
+final class KotonohaInvocationEvent extends Event {
+
+    @Label("Message Interface")
+    private @Nullable Class<?> messageInterface;
+
+    @Label("Method")
+    private @Nullable String method;
+
+    @Label("Translation Key")
+    private @Nullable String key;
+
+    @Label("Argument Count")
+    private int argumentCount;
+
+    @Label("Cached")
+    @Description("Whether the result was served from the constant result cache")
+    private boolean cached;
+
+    void set(final Method invokedMethod, final String translationKey, final boolean cachedResult) {
+        this.messageInterface = invokedMethod.getDeclaringClass();
+        this.method = invokedMethod.getName();
+        this.key = translationKey;
+        this.argumentCount = invokedMethod.getParameterCount();
+        this.cached = cachedResult;
+    }
+}
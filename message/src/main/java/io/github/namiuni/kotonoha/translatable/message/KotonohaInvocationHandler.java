@@ -23,35 +23,19 @@
  */
 package io.github.namiuni.kotonoha.translatable.message;
 
-import io.github.namiuni.kotonoha.translatable.message.configuration.InvocationConfiguration;
-import io.github.namiuni.kotonoha.translatable.message.context.InvocationContext;
-import io.github.namiuni.kotonoha.translatable.message.policy.argument.TranslationArgumentAdaptationPolicy;
-import io.github.namiuni.kotonoha.translatable.message.policy.key.TranslationKeyResolutionPolicy;
-import io.github.namiuni.kotonoha.translatable.message.policy.result.ResultComponentTransformationPolicy;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
-import java.util.Objects;
-import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.ComponentLike;
-import net.kyori.adventure.text.TranslatableComponent;
+import java.util.Map;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
 
 @NullMarked
 final class KotonohaInvocationHandler implements InvocationHandler {
 
-    private static final Object[] EMPTY_OBJECT_ARRAY = new Object[0];
+    private final Map<Method, InvocationPlan> plans;
 
-    private final TranslationKeyResolutionPolicy keyPolicy;
-    private final TranslationArgumentAdaptationPolicy argumentPolicy;
-    private final ResultComponentTransformationPolicy resultPolicy;
-
-    KotonohaInvocationHandler(
-            final InvocationConfiguration config
-    ) {
-        this.keyPolicy = config.keyPolicy();
-        this.argumentPolicy = config.argumentPolicy();
-        this.resultPolicy = config.resultPolicy();
+    KotonohaInvocationHandler(final Map<Method, InvocationPlan> plans) {
+        this.plans = Map.copyOf(plans);
     }
 
     @Override
@@ -67,17 +51,12 @@ final class KotonohaInvocationHandler implements InvocationHandler {
             return InvocationHandler.invokeDefault(proxy, method, args);
         }
 
-        final InvocationContext context = this.createContext(method, args);
-        final String key = this.keyPolicy.resolveKey(context);
-        final ComponentLike[] arguments = this.argumentPolicy.adaptArgumentArray(context);
-        final TranslatableComponent component = Component.translatable(key, arguments);
-
-        return this.resultPolicy.transformComponent(component, context);
-    }
+        final InvocationPlan plan = this.plans.get(method);
+        if (plan == null) {
+            throw new IllegalStateException("No invocation plan compiled for method '%s'".formatted(method.getName()));
+        }
 
-    private InvocationContext createContext(final Method method, final @Nullable Object @Nullable [] args) {
-        final @Nullable Object[] values = Objects.requireNonNullElse(args, EMPTY_OBJECT_ARRAY);
-        return InvocationContext.of(method, values);
+        return args == null ? plan.invoke() : plan.invoke(args);
     }
 
     private Object handleObjectMethod(final Object proxy, final Method method, final @Nullable Object @Nullable [] args) {
@@ -23,12 +23,20 @@
  */
 package io.github.namiuni.kotonoha.translatable.message;
 
+import io.github.namiuni.kotonoha.translatable.message.configuration.ImplementationStrategy;
 import io.github.namiuni.kotonoha.translatable.message.configuration.InvocationConfiguration;
 import io.github.namiuni.kotonoha.translatable.message.policy.KotonohaValidationException;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 /**
  * A factory class for creating proxy instances of interfaces that create
@@ -37,7 +45,9 @@ import org.jspecify.annotations.NullMarked;
  * <p>
  * It uses {@link java.lang.reflect.Proxy} and {@link java.lang.reflect.InvocationHandler}
  * to dynamically handle method calls, resolve translation keys, and adapt arguments
- * based on the provided configuration.
+ * based on the provided configuration. An implementation generated at compile time by the
+ * kotonoha annotation processor, or a hidden class generated at runtime, can be used instead
+ * of a proxy, see {@link ImplementationStrategy}.
  *
  * @see java.lang.reflect.Proxy
  * @see java.lang.reflect.InvocationHandler
@@ -47,6 +57,9 @@ import org.jspecify.annotations.NullMarked;
 @NullMarked
 public final class KotonohaMessage {
 
+    private static final String GENERATED_IMPLEMENTATION_SUFFIX = "_KotonohaImpl";
+    private static final MessageInstanceCache CACHE = new MessageInstanceCache();
+
     private KotonohaMessage() {
     }
 
@@ -54,6 +67,14 @@ public final class KotonohaMessage {
      * Returns a proxy instance using an invocation configuration.
      * <p>
      * Handles method invocations according to the policies defined in the provided {@code config}.
+     * Message instances are immutable, so the instance created for an interface is cached and returned
+     * again for equal configurations until it is {@linkplain #invalidate(Class) invalidated}. Only the instances of
+     * the few most recently cached configurations of an interface are kept, so configurations rebuilt on a reload should
+     * be followed by {@link #invalidate(Class)} to release the previous instances right away.
+     * If the configuration uses {@link ImplementationStrategy#GENERATED} and an implementation named
+     * {@code <InterfaceName>_KotonohaImpl} has been generated for the interface at compile time, an instance
+     * of it is returned instead of a {@link java.lang.reflect.Proxy}. If the configuration uses
+     * {@link ImplementationStrategy#HIDDEN_CLASS}, a hidden class implementing the interface is generated at runtime.
      *
      * <p>{@link InvocationConfiguration} provides standard configurations for {@link java.text.MessageFormat}
      * and {@link net.kyori.adventure.text.minimessage.MiniMessage}
@@ -78,7 +99,8 @@ public final class KotonohaMessage {
      * @return a proxy instance of the specified interface
      * @throws NullPointerException if {@code interfaceType} or {@code config} is {@code null}
      * @throws IllegalArgumentException if the specified class is not an interface
-     * @throws KotonohaValidationException if the interface cannot be used with the given config
+     * @throws KotonohaValidationException if the interface cannot be used with the given config,
+     *                                     or cannot be implemented with the configured strategy
      * @see java.lang.reflect.Proxy
      * @see java.lang.reflect.InvocationHandler
      * @see net.kyori.adventure.text.TranslatableComponent
@@ -97,7 +119,89 @@ public final class KotonohaMessage {
             throw new IllegalArgumentException("The specified class is not an interface.");
         }
 
+        // Reuse the instance created for an equal configuration
+        return CACHE.get(interfaceType, config, cachedConfig -> createInstance(interfaceType, cachedConfig, null));
+    }
+
+    /**
+     * Returns a proxy instance using an invocation configuration, implemented with the given lookup.
+     * <p>
+     * Behaves like {@link #createProxy(Class, InvocationConfiguration)}, except that a hidden class generated for
+     * {@link ImplementationStrategy#HIDDEN_CLASS} is defined through {@code lookup}. Kotonoha can only define hidden
+     * classes in its own module, so interfaces of other modules, such as those of plugins loaded by their own class
+     * loader, are implemented with a lookup of their module:
+     * <pre>{@code
+     * ExampleMessages messages = KotonohaMessage.createProxy(
+     *     ExampleMessages.class,
+     *     FormatTypes.MESSAGE_FORMAT.withImplementationStrategy(ImplementationStrategy.HIDDEN_CLASS),
+     *     MethodHandles.lookup()
+     * );
+     * }</pre>
+     * The lookup is not used by the other strategies.
+     *
+     * @param <I>           the proxied interface type
+     * @param interfaceType the interface type to be proxied
+     * @param config        the invocation configuration
+     * @param lookup        a lookup with full privilege access in the module of the interface
+     * @return a proxy instance of the specified interface
+     * @throws NullPointerException if {@code interfaceType}, {@code config} or {@code lookup} is {@code null}
+     * @throws IllegalArgumentException if the specified class is not an interface
+     * @throws KotonohaValidationException if the interface cannot be used with the given config,
+     *                                     or cannot be implemented with the configured strategy
+     * @see java.lang.invoke.MethodHandles#lookup()
+     * @since 0.3.0
+     */
+    public static <I> I createProxy(
+            final Class<I> interfaceType,
+            final InvocationConfiguration config,
+            final MethodHandles.Lookup lookup
+    ) throws NullPointerException, IllegalArgumentException, KotonohaValidationException {
+
+        // Check null
+        Objects.requireNonNull(interfaceType, "interfaceType");
+        Objects.requireNonNull(config, "config");
+        Objects.requireNonNull(lookup, "lookup");
+
+        if (!interfaceType.isInterface()) {
+            throw new IllegalArgumentException("The specified class is not an interface.");
+        }
+
+        return CACHE.get(interfaceType, config, cachedConfig -> createInstance(interfaceType, cachedConfig, lookup));
+    }
+
+    /**
+     * Invalidates the cached message instances of the specified interface.
+     * <p>
+     * The next call to {@link #createProxy(Class, InvocationConfiguration)} validates the interface again.
+     * Instances returned before remain usable.
+     *
+     * @param interfaceType the message interface
+     * @throws NullPointerException if {@code interfaceType} is {@code null}
+     * @since 0.3.0
+     */
+    public static void invalidate(final Class<?> interfaceType) throws NullPointerException {
+        Objects.requireNonNull(interfaceType, "interfaceType");
+        CACHE.invalidate(interfaceType);
+    }
+
+    /**
+     * Invalidates the cached message instances of all interfaces.
+     *
+     * @see #invalidate(Class)
+     * @since 0.3.0
+     */
+    public static void invalidateAll() {
+        CACHE.invalidateAll();
+    }
+
+    private static <I> I createInstance(
+            final Class<I> interfaceType,
+            final InvocationConfiguration config,
+            final MethodHandles.@Nullable Lookup lookup
+    ) {
+
         // Validate policies
+        final List<Method> methods = new ArrayList<>();
         for (final Method method : interfaceType.getMethods()) {
 
             // Ignore Object method
@@ -114,10 +218,36 @@ public final class KotonohaMessage {
             config.keyPolicy().validate(method);
             config.argumentPolicy().validate(method);
             config.resultPolicy().validate(method);
+
+            methods.add(method);
+        }
+
+        // Use the implementation generated at compile time if requested and present
+        if (config.implementationStrategy() == ImplementationStrategy.GENERATED) {
+            final @Nullable Class<? extends I> generatedType = findGeneratedImplementation(interfaceType);
+            if (generatedType != null) {
+                return instantiateGeneratedImplementation(generatedType, config);
+            }
+        }
+
+        // Spin a hidden class if requested
+        if (config.implementationStrategy() == ImplementationStrategy.HIDDEN_CLASS) {
+            final @Nullable String unsupportedReason = HiddenClassImplementationFactory.unsupportedReason(interfaceType, methods, lookup);
+            if (unsupportedReason != null) {
+                final String message = "Interface '%s' cannot be implemented with a hidden class: %s";
+                throw new KotonohaValidationException(message.formatted(interfaceType.getName(), unsupportedReason));
+            }
+            return HiddenClassImplementationFactory.create(interfaceType, methods, config, lookup);
+        }
+
+        // Compile invocation plans
+        final Map<Method, InvocationPlan> plans = new HashMap<>();
+        for (final Method method : methods) {
+            plans.put(method, InvocationPlan.compile(method, config));
         }
 
         // Create proxy instance
-        final KotonohaInvocationHandler handler = new KotonohaInvocationHandler(config);
+        final KotonohaInvocationHandler handler = new KotonohaInvocationHandler(plans);
         final Object proxyInstance = Proxy.newProxyInstance(
                 interfaceType.getClassLoader(),
                 new Class<?>[] {interfaceType},
@@ -126,4 +256,35 @@ public final class KotonohaMessage {
 
         return interfaceType.cast(proxyInstance);
     }
+
+    private static <I> @Nullable Class<? extends I> findGeneratedImplementation(final Class<I> interfaceType) {
+        final String packageName = interfaceType.getPackageName();
+        final String nestedName = packageName.isEmpty()
+                ? interfaceType.getName()
+                : interfaceType.getName().substring(packageName.length() + 1);
+        final String simpleName = nestedName.replace('$', '_') + GENERATED_IMPLEMENTATION_SUFFIX;
+        final String generatedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+        try {
+            final Class<?> generatedType = Class.forName(generatedName, false, interfaceType.getClassLoader());
+            return interfaceType.isAssignableFrom(generatedType) ? generatedType.asSubclass(interfaceType) : null;
+        } catch (final ClassNotFoundException ignored) {
+            return null;
+        }
+    }
+
+    private static <I> I instantiateGeneratedImplementation(final Class<? extends I> generatedType, final InvocationConfiguration config) {
+        try {
+            return generatedType.getConstructor(InvocationConfiguration.class).newInstance(config);
+        } catch (final InvocationTargetException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            final String message = "Failed to instantiate generated implementation '%s'".formatted(generatedType.getName());
+            throw new IllegalStateException(message, exception.getCause());
+        } catch (final ReflectiveOperationException exception) {
+            final String message = "Failed to instantiate generated implementation '%s'".formatted(generatedType.getName());
+            throw new IllegalStateException(message, exception);
+        }
+    }
 }
@@ -0,0 +1,108 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translatable.message;
+
+import io.github.namiuni.kotonoha.translatable.message.configuration.InvocationConfiguration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import org.jspecify.annotations.NullMarked;
+
+/*
+ * Caches message instances per interface and invocation configuration.
+ *
+ * Interfaces are weakly referenced through a ClassValue, so that caching an instance does not
+ * keep the class loader of a plugin reachable. Configurations are compared by value, so equal
+ * configurations built separately share an instance for as long as it is cached.
+ *
+ * Configurations are held strongly. Only the most recently cached ones of an interface are kept,
+ * so that configurations rebuilt on every reload do not pile up when invalidate() is not called.
+ */
+@NullMarked
+final class MessageInstanceCache {
+
+    // Interfaces are rarely used with more than a few configurations at once
+    static final int MAX_CONFIGURATIONS = 8;
+
+    private volatile ClassValue<ConfigInstances> instances = createInstances();
+
+    <I> I get(
+            final Class<I> interfaceType,
+            final InvocationConfiguration config,
+            final Function<InvocationConfiguration, I> factory
+    ) {
+        final ConfigInstances configInstances = this.instances.get(interfaceType);
+        final Object cached = configInstances.instances.get(config);
+        if (cached != null) {
+            return interfaceType.cast(cached);
+        }
+
+        // Created outside the map, so that a slow creation does not block other interfaces or configurations.
+        // Racing threads may each create an instance, but only the first one is kept.
+        final I created = factory.apply(config);
+        final Object existing = configInstances.instances.putIfAbsent(config, created);
+        if (existing != null) {
+            return interfaceType.cast(existing);
+        }
+        configInstances.evictOldest(config);
+        return created;
+    }
+
+    void invalidate(final Class<?> interfaceType) {
+        this.instances.remove(interfaceType);
+    }
+
+    void invalidateAll() {
+        this.instances = createInstances();
+    }
+
+    private static ClassValue<ConfigInstances> createInstances() {
+        return new ClassValue<>() {
+            @Override
+            protected ConfigInstances computeValue(final Class<?> type) {
+                return new ConfigInstances();
+            }
+        };
+    }
+
+    // The instances of an interface, with their configurations in the order they were cached
+    private static final class ConfigInstances {
+
+        private final ConcurrentMap<InvocationConfiguration, Object> instances = new ConcurrentHashMap<>();
+        private final Queue<InvocationConfiguration> order = new ConcurrentLinkedQueue<>();
+
+        private void evictOldest(final InvocationConfiguration cached) {
+            this.order.add(cached);
+            while (this.instances.size() > MAX_CONFIGURATIONS) {
+                final InvocationConfiguration oldest = this.order.poll();
+                if (oldest == null) {
+                    return;
+                }
+                this.instances.remove(oldest);
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translatable.message.configuration;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Strategies for implementing message interfaces at runtime in
+ * {@link io.github.namiuni.kotonoha.translatable.message.KotonohaMessage}.
+ *
+ * @see InvocationConfiguration#implementationStrategy()
+ * @since 0.3.0
+ */
+@NullMarked
+public enum ImplementationStrategy {
+
+    /**
+     * Implements interfaces with {@link java.lang.reflect.Proxy}.
+     * <p>
+     * Works with any interface, but every call goes through an
+     * {@link java.lang.reflect.InvocationHandler}.
+     *
+     * @since 0.3.0
+     */
+    PROXY,
+
+    /**
+     * Implements interfaces with a hidden class generated at runtime.
+     * <p>
+     * Each interface method gets its own concrete body bound to its precompiled policies.
+     * The class is defined in the package of the interface, which needs a lookup with full privilege access in the
+     * module of the interface. Kotonoha's own lookup only covers interfaces of kotonoha's module. Interfaces of other
+     * modules, including the unnamed module of every other class loader, need the caller's lookup passed to
+     * {@link io.github.namiuni.kotonoha.translatable.message.KotonohaMessage#createProxy(Class, InvocationConfiguration, java.lang.invoke.MethodHandles.Lookup)}.
+     * Otherwise, creating the message instance fails with a
+     * {@link io.github.namiuni.kotonoha.translatable.message.policy.KotonohaValidationException}.
+     *
+     * @see java.lang.invoke.MethodHandles.Lookup#defineHiddenClass(byte[], boolean, java.lang.invoke.MethodHandles.Lookup.ClassOption...)
+     * @since 0.3.0
+     */
+    HIDDEN_CLASS,
+
+    /**
+     * Implements interfaces with the implementation generated at compile time by the kotonoha annotation processor.
+     * <p>
+     * The implementation of an interface {@code FooMessages} is named {@code FooMessages_KotonohaImpl}
+     * and calls the precompiled policies of each method directly.
+     * Falls back to {@link #PROXY} when no implementation has been generated for the interface.
+     *
+     * @since 0.3.0
+     */
+    GENERATED
+}
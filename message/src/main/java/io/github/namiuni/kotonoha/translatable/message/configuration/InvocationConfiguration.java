@@ -24,11 +24,13 @@
 package io.github.namiuni.kotonoha.translatable.message.configuration;
 
 import io.github.namiuni.kotonoha.translatable.message.KotonohaMessage;
+import io.github.namiuni.kotonoha.translatable.message.metrics.InvocationListener;
 import io.github.namiuni.kotonoha.translatable.message.policy.argument.TranslationArgumentAdaptationPolicy;
 import io.github.namiuni.kotonoha.translatable.message.policy.key.TranslationKeyResolutionPolicy;
 import io.github.namiuni.kotonoha.translatable.message.policy.result.ResultComponentTransformationPolicy;
 import java.util.Objects;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Holds invocation policies used when creating proxy instances in {@link KotonohaMessage}.
@@ -60,7 +62,7 @@ public sealed interface InvocationConfiguration permits InvocationConfigurationI
         Objects.requireNonNull(argumentPolicy, "argumentPolicy");
         Objects.requireNonNull(resultPolicy, "resultPolicy");
 
-        return new InvocationConfigurationImpl(keyPolicy, argumentPolicy, resultPolicy);
+        return new InvocationConfigurationImpl(keyPolicy, argumentPolicy, resultPolicy, ImplementationStrategy.PROXY, true, null);
     }
 
     /**
@@ -87,6 +89,39 @@ public sealed interface InvocationConfiguration permits InvocationConfigurationI
      */
     ResultComponentTransformationPolicy resultPolicy();
 
+    /**
+     * Returns the strategy for implementing message interfaces at runtime.
+     * <p>
+     * Defaults to {@link ImplementationStrategy#PROXY}.
+     *
+     * @return the implementation strategy
+     * @since 0.3.0
+     */
+    ImplementationStrategy implementationStrategy();
+
+    /**
+     * Returns whether results of methods without parameters are cached.
+     * <p>
+     * When enabled, a method without parameters whose policies are all
+     * {@linkplain io.github.namiuni.kotonoha.translatable.message.policy.InvocationPolicy#isPure(java.lang.reflect.Method) pure}
+     * creates its result once and returns the same instance on every invocation.
+     * Enabled by default.
+     *
+     * @return {@code true} if constant results are cached
+     * @since 0.3.0
+     */
+    boolean constantResultCaching();
+
+    /**
+     * Returns the listener notified of every method invocation.
+     * <p>
+     * Defaults to {@code null}, in which case invocations are not observed or timed.
+     *
+     * @return the invocation listener, or {@code null} if none is configured
+     * @since 0.3.0
+     */
+    @Nullable InvocationListener invocationListener();
+
     /**
      * Returns an invocation configuration with the modified translation key resolution policy.
      *
@@ -96,7 +131,7 @@ public sealed interface InvocationConfiguration permits InvocationConfigurationI
      */
     default InvocationConfiguration withKeyPolicy(final TranslationKeyResolutionPolicy keyPolicy) {
         Objects.requireNonNull(keyPolicy, "keyPolicy");
-        return InvocationConfiguration.of(keyPolicy, this.argumentPolicy(), this.resultPolicy());
+        return new InvocationConfigurationImpl(keyPolicy, this.argumentPolicy(), this.resultPolicy(), this.implementationStrategy(), this.constantResultCaching(), this.invocationListener());
     }
 
     /**
@@ -108,7 +143,7 @@ public sealed interface InvocationConfiguration permits InvocationConfigurationI
      */
     default InvocationConfiguration withArgumentPolicy(final TranslationArgumentAdaptationPolicy argumentPolicy) {
         Objects.requireNonNull(argumentPolicy, "argumentPolicy");
-        return InvocationConfiguration.of(this.keyPolicy(), argumentPolicy, this.resultPolicy());
+        return new InvocationConfigurationImpl(this.keyPolicy(), argumentPolicy, this.resultPolicy(), this.implementationStrategy(), this.constantResultCaching(), this.invocationListener());
     }
 
     /**
@@ -120,6 +155,51 @@ public sealed interface InvocationConfiguration permits InvocationConfigurationI
      */
     default InvocationConfiguration withResultPolicy(final ResultComponentTransformationPolicy resultPolicy) {
         Objects.requireNonNull(resultPolicy, "resultPolicy");
-        return InvocationConfiguration.of(this.keyPolicy(), this.argumentPolicy(), resultPolicy);
+        return new InvocationConfigurationImpl(this.keyPolicy(), this.argumentPolicy(), resultPolicy, this.implementationStrategy(), this.constantResultCaching(), this.invocationListener());
+    }
+
+    /**
+     * Returns an invocation configuration with the modified implementation strategy.
+     *
+     * <pre>{@code
+     * InvocationConfiguration config = FormatTypes.MESSAGE_FORMAT.withImplementationStrategy(ImplementationStrategy.HIDDEN_CLASS);
+     * }</pre>
+     *
+     * @param implementationStrategy the strategy for implementing message interfaces
+     * @return an invocation configuration with the specified strategy
+     * @since 0.3.0
+     */
+    default InvocationConfiguration withImplementationStrategy(final ImplementationStrategy implementationStrategy) {
+        Objects.requireNonNull(implementationStrategy, "implementationStrategy");
+        return new InvocationConfigurationImpl(this.keyPolicy(), this.argumentPolicy(), this.resultPolicy(), implementationStrategy, this.constantResultCaching(), this.invocationListener());
+    }
+
+    /**
+     * Returns an invocation configuration with constant result caching enabled or disabled.
+     *
+     * @param constantResultCaching whether results of methods without parameters are cached
+     * @return an invocation configuration with the specified caching
+     * @see #constantResultCaching()
+     * @since 0.3.0
+     */
+    default InvocationConfiguration withConstantResultCaching(final boolean constantResultCaching) {
+        return new InvocationConfigurationImpl(this.keyPolicy(), this.argumentPolicy(), this.resultPolicy(), this.implementationStrategy(), constantResultCaching, this.invocationListener());
+    }
+
+    /**
+     * Returns an invocation configuration with the specified invocation listener.
+     *
+     * <pre>{@code
+     * InvocationMetrics metrics = InvocationMetrics.create();
+     * InvocationConfiguration config = FormatTypes.MESSAGE_FORMAT.withInvocationListener(metrics);
+     * }</pre>
+     *
+     * @param invocationListener the listener notified of every method invocation, or {@code null} to disable it
+     * @return an invocation configuration with the specified listener
+     * @see io.github.namiuni.kotonoha.translatable.message.metrics.InvocationMetrics
+     * @since 0.3.0
+     */
+    default InvocationConfiguration withInvocationListener(final @Nullable InvocationListener invocationListener) {
+        return new InvocationConfigurationImpl(this.keyPolicy(), this.argumentPolicy(), this.resultPolicy(), this.implementationStrategy(), this.constantResultCaching(), invocationListener);
     }
 }
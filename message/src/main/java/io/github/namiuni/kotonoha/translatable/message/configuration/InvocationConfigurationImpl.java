@@ -23,15 +23,20 @@
  */
 package io.github.namiuni.kotonoha.translatable.message.configuration;
 
+import io.github.namiuni.kotonoha.translatable.message.metrics.InvocationListener;
 import io.github.namiuni.kotonoha.translatable.message.policy.argument.TranslationArgumentAdaptationPolicy;
 import io.github.namiuni.kotonoha.translatable.message.policy.key.TranslationKeyResolutionPolicy;
 import io.github.namiuni.kotonoha.translatable.message.policy.result.ResultComponentTransformationPolicy;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 @NullMarked
 record InvocationConfigurationImpl(
         TranslationKeyResolutionPolicy keyPolicy,
         TranslationArgumentAdaptationPolicy argumentPolicy,
-        ResultComponentTransformationPolicy resultPolicy
+        ResultComponentTransformationPolicy resultPolicy,
+        ImplementationStrategy implementationStrategy,
+        boolean constantResultCaching,
+        @Nullable InvocationListener invocationListener
 ) implements InvocationConfiguration {
 }
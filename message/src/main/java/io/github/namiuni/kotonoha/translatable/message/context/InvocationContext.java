@@ -69,7 +69,29 @@ public sealed interface InvocationContext permits InvocationContextImpl {
         Objects.requireNonNull(method, "method");
         Objects.requireNonNull(args, "args");
 
-        final Parameter[] parameters = method.getParameters();
+        return InvocationContext.of(method, method.getParameters(), args);
+    }
+
+    /**
+     * Returns an invocation context for the given method, its already resolved parameters and arguments.
+     * <p>
+     * Reusing the parameters avoids the defensive copy made by {@link Method#getParameters()} on every invocation.
+     *
+     * @param method     the invoked method (must not be {@code null})
+     * @param parameters the parameters of {@code method} (must not be {@code null})
+     * @param args       the actual arguments passed to the method (must not be {@code null})
+     * @return an invocation context
+     * @throws NullPointerException if any of the arguments is {@code null}
+     * @throws IllegalArgumentException if the length of {@code args} does not match the length of {@code parameters}
+     * @see java.lang.reflect.InvocationHandler
+     * @since 0.3.0
+     */
+    @ApiStatus.Internal
+    static InvocationContext of(final Method method, final Parameter[] parameters, final @Nullable Object[] args) throws IllegalArgumentException {
+        Objects.requireNonNull(method, "method");
+        Objects.requireNonNull(parameters, "parameters");
+        Objects.requireNonNull(args, "args");
+
         if (args.length != parameters.length) {
             throw new IllegalArgumentException(
                     "args length %d does not match parameter count %d for method '%s'"
@@ -0,0 +1,84 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translatable.message.metrics;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * A snapshot of recorded durations.
+ * <p>
+ * Durations are counted in power-of-two nanosecond buckets, so percentiles are
+ * estimated by the upper bound of the bucket they fall into and are accurate to within a factor of two.
+ *
+ * @see MethodMetrics
+ * @since 0.3.0
+ */
+@NullMarked
+public sealed interface DurationHistogram permits DurationHistogramImpl {
+
+    /**
+     * Returns the number of recorded durations.
+     *
+     * @return the number of recorded durations
+     * @since 0.3.0
+     */
+    long count();
+
+    /**
+     * Returns the sum of all recorded durations.
+     *
+     * @return the total duration in nanoseconds
+     * @since 0.3.0
+     */
+    long totalNanos();
+
+    /**
+     * Returns the longest recorded duration.
+     *
+     * @return the maximum duration in nanoseconds, or {@code 0} if nothing has been recorded
+     * @since 0.3.0
+     */
+    long maxNanos();
+
+    /**
+     * Returns the mean of the recorded durations.
+     *
+     * @return the mean duration in nanoseconds, or {@code 0} if nothing has been recorded
+     * @since 0.3.0
+     */
+    default double meanNanos() {
+        final long count = this.count();
+        return count == 0 ? 0 : (double) this.totalNanos() / count;
+    }
+
+    /**
+     * Returns an estimate of the duration below which the specified fraction of recorded durations fall.
+     *
+     * @param quantile the quantile between {@code 0.0} and {@code 1.0}, for example {@code 0.99}
+     * @return the estimated duration in nanoseconds, or {@code 0} if nothing has been recorded
+     * @throws IllegalArgumentException if the quantile is out of range
+     * @since 0.3.0
+     */
+    long percentileNanos(double quantile) throws IllegalArgumentException;
+}
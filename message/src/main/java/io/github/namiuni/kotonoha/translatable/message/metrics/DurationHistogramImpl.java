@@ -0,0 +1,85 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translatable.message.metrics;
+
+import java.util.Arrays;
+import org.jspecify.annotations.NullMarked;
+
+@NullMarked
+final class DurationHistogramImpl implements DurationHistogram {
+
+    private final long[] buckets;
+    private final long count;
+    private final long totalNanos;
+    private final long maxNanos;
+
+    DurationHistogramImpl(final long[] buckets, final long totalNanos, final long maxNanos) {
+        this.buckets = buckets;
+        this.count = Arrays.stream(buckets).sum();
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    @Override
+    public long count() {
+        return this.count;
+    }
+
+    @Override
+    public long totalNanos() {
+        return this.totalNanos;
+    }
+
+    @Override
+    public long maxNanos() {
+        return this.maxNanos;
+    }
+
+    @Override
+    public long percentileNanos(final double quantile) throws IllegalArgumentException {
+        if (!(quantile >= 0.0 && quantile <= 1.0)) {
+            throw new IllegalArgumentException("quantile must be between 0.0 and 1.0: " + quantile);
+        }
+        if (this.count == 0) {
+            return 0;
+        }
+
+        final long rank = Math.max(1, (long) Math.ceil(quantile * this.count));
+        long cumulative = 0;
+        for (int bucket = 0; bucket < this.buckets.length; bucket++) {
+            cumulative += this.buckets[bucket];
+            if (cumulative >= rank) {
+                return Math.min(ConcurrentDurationHistogram.upperBound(bucket), this.maxNanos);
+            }
+        }
+
+        // Buckets and maximum are read separately while recording, the maximum is the best estimate left
+        return this.maxNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "DurationHistogram[count=%d, totalNanos=%d, maxNanos=%d]".formatted(this.count, this.totalNanos, this.maxNanos);
+    }
+}
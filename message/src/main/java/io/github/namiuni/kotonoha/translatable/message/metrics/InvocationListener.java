@@ -0,0 +1,70 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translatable.message.metrics;
+
+import java.lang.reflect.Method;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Observes invocations of message interface methods.
+ * <p>
+ * A listener is registered through
+ * {@link io.github.namiuni.kotonoha.translatable.message.configuration.InvocationConfiguration#withInvocationListener(InvocationListener)}
+ * and is called on the invoking thread after every invocation, so implementations must be
+ * thread-safe and should return quickly. When no listener is configured, invocations are not timed.
+ *
+ * <pre>{@code
+ * InvocationMetrics metrics = InvocationMetrics.create();
+ * InvocationConfiguration config = FormatTypes.MESSAGE_FORMAT.withInvocationListener(metrics);
+ * }</pre>
+ *
+ * @see InvocationMetrics
+ * @since 0.3.0
+ */
+@NullMarked
+@FunctionalInterface
+public interface InvocationListener {
+
+    /**
+     * Called after a method has created its result.
+     *
+     * @param method                    the invoked method
+     * @param argumentAdaptationNanos   the time spent adapting the arguments, in nanoseconds
+     * @param resultTransformationNanos the time spent transforming the result, in nanoseconds
+     * @since 0.3.0
+     */
+    void onInvocation(Method method, long argumentAdaptationNanos, long resultTransformationNanos);
+
+    /**
+     * Called after a method has returned a cached constant result.
+     * <p>
+     * Does nothing by default.
+     *
+     * @param method the invoked method
+     * @see io.github.namiuni.kotonoha.translatable.message.configuration.InvocationConfiguration#constantResultCaching()
+     * @since 0.3.0
+     */
+    default void onCachedInvocation(final Method method) {
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translatable.message.metrics;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * An {@link InvocationListener} that aggregates per-method invocation metrics.
+ * <p>
+ * Recording is lock-free: counters are striped and durations are collected
+ * in histograms with power-of-two nanosecond buckets. A {@link #snapshot() snapshot}
+ * can be taken at any time, for example to export the metrics periodically.
+ *
+ * @see InvocationListener
+ * @since 0.3.0
+ */
+@NullMarked
+public sealed interface InvocationMetrics extends InvocationListener permits InvocationMetricsImpl {
+
+    /**
+     * Creates an empty metrics collector.
+     *
+     * @return a new metrics collector
+     * @since 0.3.0
+     */
+    static InvocationMetrics create() {
+        return new InvocationMetricsImpl();
+    }
+
+    /**
+     * Returns a point-in-time copy of the metrics of every method invoked so far.
+     * <p>
+     * Values recorded concurrently with the snapshot may or may not be included.
+     *
+     * @return an immutable map of methods to their metrics
+     * @since 0.3.0
+     */
+    Map<Method, MethodMetrics> snapshot();
+
+    /**
+     * Discards all recorded metrics.
+     *
+     * @since 0.3.0
+     */
+    void reset();
+}
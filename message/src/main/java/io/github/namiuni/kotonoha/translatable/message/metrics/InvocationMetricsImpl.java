@@ -0,0 +1,97 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translatable.message.metrics;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+@NullMarked
+final class InvocationMetricsImpl implements InvocationMetrics {
+
+    private final ConcurrentMap<Method, MethodRecorder> recorders = new ConcurrentHashMap<>();
+
+    @Override
+    public void onInvocation(final Method method, final long argumentAdaptationNanos, final long resultTransformationNanos) {
+        final MethodRecorder recorder = this.recorder(method);
+        recorder.invocations.increment();
+        recorder.argumentAdaptation.record(argumentAdaptationNanos);
+        recorder.resultTransformation.record(resultTransformationNanos);
+    }
+
+    @Override
+    public void onCachedInvocation(final Method method) {
+        final MethodRecorder recorder = this.recorder(method);
+        recorder.invocations.increment();
+        recorder.cachedInvocations.increment();
+    }
+
+    @Override
+    public Map<Method, MethodMetrics> snapshot() {
+        return this.recorders.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> entry.getValue().snapshot(entry.getKey())));
+    }
+
+    @Override
+    public void reset() {
+        this.recorders.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "InvocationMetrics[methods=%d]".formatted(this.recorders.size());
+    }
+
+    private MethodRecorder recorder(final Method method) {
+        // Avoid computeIfAbsent on the hot path, it locks the bin even when the mapping exists
+        final @Nullable MethodRecorder recorder = this.recorders.get(method);
+        if (recorder != null) {
+            return recorder;
+        }
+        return this.recorders.computeIfAbsent(method, ignored -> new MethodRecorder());
+    }
+
+    private static final class MethodRecorder {
+
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder cachedInvocations = new LongAdder();
+        private final ConcurrentDurationHistogram argumentAdaptation = new ConcurrentDurationHistogram();
+        private final ConcurrentDurationHistogram resultTransformation = new ConcurrentDurationHistogram();
+
+        private MethodMetrics snapshot(final Method method) {
+            return new MethodMetricsImpl(
+                    method,
+                    this.invocations.sum(),
+                    this.cachedInvocations.sum(),
+                    this.argumentAdaptation.snapshot(),
+                    this.resultTransformation.snapshot()
+            );
+        }
+    }
+}
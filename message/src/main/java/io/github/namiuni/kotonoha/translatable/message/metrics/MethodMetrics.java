@@ -0,0 +1,76 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translatable.message.metrics;
+
+import java.lang.reflect.Method;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * The metrics of a single message interface method, as captured by {@link InvocationMetrics#snapshot()}.
+ *
+ * @since 0.3.0
+ */
+@NullMarked
+public sealed interface MethodMetrics permits MethodMetricsImpl {
+
+    /**
+     * Returns the method these metrics belong to.
+     *
+     * @return the method
+     * @since 0.3.0
+     */
+    Method method();
+
+    /**
+     * Returns the total number of invocations, including those answered from the constant result cache.
+     *
+     * @return the number of invocations
+     * @since 0.3.0
+     */
+    long invocations();
+
+    /**
+     * Returns the number of invocations answered from the constant result cache.
+     *
+     * @return the number of cached invocations
+     * @since 0.3.0
+     */
+    long cachedInvocations();
+
+    /**
+     * Returns the distribution of the time spent adapting arguments.
+     *
+     * @return the argument adaptation durations
+     * @since 0.3.0
+     */
+    DurationHistogram argumentAdaptation();
+
+    /**
+     * Returns the distribution of the time spent transforming results.
+     *
+     * @return the result transformation durations
+     * @since 0.3.0
+     */
+    DurationHistogram resultTransformation();
+}
@@ -0,0 +1,8 @@
+/**
+ * Provides hooks for observing message interface invocations, including
+ * {@link io.github.namiuni.kotonoha.translatable.message.metrics.InvocationListener} and the aggregating
+ * {@link io.github.namiuni.kotonoha.translatable.message.metrics.InvocationMetrics}.
+ * <p>
+ * Listeners are registered on the {@link io.github.namiuni.kotonoha.translatable.message.configuration.InvocationConfiguration}.
+ */
+package io.github.namiuni.kotonoha.translatable.message.metrics;
@@ -48,4 +48,21 @@ public interface InvocationPolicy {
      * @since 0.1.0
      */
     void validate(Method method) throws KotonohaValidationException;
+
+    /**
+     * Returns whether this policy is pure for the specified method.
+     * <p>
+     * A pure policy produces an equal, immutable result for equal arguments and has no side effects,
+     * so results of methods without parameters can be computed once and reused.
+     * The default implementation returns {@code false}.
+     *
+     * @param method the method that has passed {@link #validate(Method)}
+     * @return {@code true} if this policy is pure for the method
+     * @see InvocationConfiguration#constantResultCaching()
+     * @since 0.3.0
+     */
+    @ApiStatus.Experimental
+    default boolean isPure(final Method method) {
+        return false;
+    }
 }
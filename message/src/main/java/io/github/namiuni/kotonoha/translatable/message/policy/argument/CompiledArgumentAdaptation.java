@@ -0,0 +1,67 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translatable.message.policy.argument;
+
+import java.lang.reflect.Parameter;
+import java.util.Objects;
+import java.util.function.Function;
+import net.kyori.adventure.text.ComponentLike;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+@NullMarked
+final class CompiledArgumentAdaptation implements Function<@Nullable Object[], ComponentLike[]> {
+
+    private final String[] parameterNames;
+    private final Function<Object, ? extends ComponentLike>[] adapters;
+
+    @SuppressWarnings("unchecked")
+    CompiledArgumentAdaptation(
+            final Parameter[] parameters,
+            final Function<Parameter, Function<Object, ? extends ComponentLike>> parameterCompiler
+    ) {
+        this.parameterNames = new String[parameters.length];
+        this.adapters = new Function[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            this.parameterNames[i] = parameters[i].getName();
+            this.adapters[i] = parameterCompiler.apply(parameters[i]);
+        }
+    }
+
+    @Override
+    public ComponentLike[] apply(final @Nullable Object[] args) throws IllegalArgumentException, NullPointerException {
+        if (args.length == 0) {
+            return TranslationArgumentAdaptationPolicy.EMPTY_COMPONENT_LIKE_ARRAY;
+        }
+
+        final ComponentLike[] translationArguments = new ComponentLike[args.length];
+        for (int i = 0; i < args.length; i++) {
+            final Object value = args[i];
+            Objects.requireNonNull(value, this.parameterNames[i]);
+            translationArguments[i] = this.adapters[i].apply(value);
+        }
+
+        return translationArguments;
+    }
+}
@@ -30,9 +30,13 @@ import io.leangen.geantyref.GenericTypeReflector;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 import net.kyori.adventure.text.ComponentLike;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 @NullMarked
 record MessageFormatTranslationArgumentAdaptationPolicy(TranslationArgumentAdapter argumentAdapter) implements TranslationArgumentAdaptationPolicy {
@@ -53,6 +57,40 @@ record MessageFormatTranslationArgumentAdaptationPolicy(TranslationArgumentAdapt
         return this.argumentAdapter.adapt(parameterizedType, value);
     }
 
+    @Override
+    public Function<@Nullable Object[], ComponentLike[]> compile(final Method method) {
+        return new CompiledArgumentAdaptation(method.getParameters(), this::compileParameter);
+    }
+
+    @Override
+    public List<Function<Object, ? extends ComponentLike>> compileParameters(final Method method) {
+        final Parameter[] parameters = method.getParameters();
+        final List<Function<Object, ? extends ComponentLike>> adapters = new ArrayList<>(parameters.length);
+        for (final Parameter parameter : parameters) {
+            adapters.add(this.compileParameter(parameter));
+        }
+        return adapters;
+    }
+
+    private Function<Object, ? extends ComponentLike> compileParameter(final Parameter parameter) {
+        final Type parameterizedType = parameter.getParameterizedType();
+        if (parameterizedType == int.class) {
+            return new PrimitiveParameterAdapters.IntParameterAdapter(this.argumentAdapter.intAdapter());
+        }
+        if (parameterizedType == long.class) {
+            return new PrimitiveParameterAdapters.LongParameterAdapter(this.argumentAdapter.longAdapter());
+        }
+        if (parameterizedType == double.class) {
+            return new PrimitiveParameterAdapters.DoubleParameterAdapter(this.argumentAdapter.doubleAdapter());
+        }
+        return this.argumentAdapter.adapter(parameterizedType);
+    }
+
+    @Override
+    public boolean isPure(final Method method) {
+        return true;
+    }
+
     @Override
     public void validate(final Method method) throws KotonohaValidationException {
         final Parameter[] parameters = method.getParameters();
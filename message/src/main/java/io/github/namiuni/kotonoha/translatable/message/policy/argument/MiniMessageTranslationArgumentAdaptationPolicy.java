@@ -32,7 +32,13 @@ import io.leangen.geantyref.GenericTypeReflector;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.DoubleFunction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
 import net.kyori.adventure.pointer.Pointered;
 import net.kyori.adventure.text.ComponentLike;
 import net.kyori.adventure.text.TranslationArgument;
@@ -41,6 +47,7 @@ import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 import net.kyori.adventure.text.minimessage.translation.Argument;
 import org.jetbrains.annotations.ApiStatus;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 @NullMarked
 @ApiStatus.Experimental
@@ -86,6 +93,76 @@ record MiniMessageTranslationArgumentAdaptationPolicy(
         };
     }
 
+    @Override
+    public Function<@Nullable Object[], ComponentLike[]> compile(final Method method) {
+        return new CompiledArgumentAdaptation(method.getParameters(), this::compileParameter);
+    }
+
+    @Override
+    public List<Function<Object, ? extends ComponentLike>> compileParameters(final Method method) {
+        final Parameter[] parameters = method.getParameters();
+        final List<Function<Object, ? extends ComponentLike>> adapters = new ArrayList<>(parameters.length);
+        for (final Parameter parameter : parameters) {
+            adapters.add(this.compileParameter(parameter));
+        }
+        return adapters;
+    }
+
+    @Override
+    public boolean isPure(final Method method) {
+        return true;
+    }
+
+    private Function<Object, ? extends ComponentLike> compileParameter(final Parameter parameter) {
+        final Type parameterizedType = parameter.getParameterizedType();
+
+        // Special argument
+        if (parameterizedType == TagResolver.class) {
+            return value -> Argument.tagResolver((TagResolver) value);
+        }
+
+        if (parameterizedType == Pointered.class) {
+            return value -> Argument.target((Pointered) value);
+        }
+
+        final boolean target = parameter.isAnnotationPresent(Target.class);
+        if (target && GenericTypeReflector.isSuperType(Pointered.class, parameterizedType)) {
+            return value -> Argument.target((Pointered) value);
+        }
+
+        final String argumentName = this.nameResolver.resolve(parameter);
+
+        // Primitives are never targets, and are adapted without boxing
+        if (parameterizedType == int.class) {
+            final IntFunction<TranslationArgument> adapter = this.argumentAdapter.intAdapter();
+            return new PrimitiveParameterAdapters.IntParameterAdapter(value -> Argument.argument(argumentName, adapter.apply(value)));
+        }
+        if (parameterizedType == long.class) {
+            final LongFunction<TranslationArgument> adapter = this.argumentAdapter.longAdapter();
+            return new PrimitiveParameterAdapters.LongParameterAdapter(value -> Argument.argument(argumentName, adapter.apply(value)));
+        }
+        if (parameterizedType == double.class) {
+            final DoubleFunction<TranslationArgument> adapter = this.argumentAdapter.doubleAdapter();
+            return new PrimitiveParameterAdapters.DoubleParameterAdapter(value -> Argument.argument(argumentName, adapter.apply(value)));
+        }
+
+        final Function<Object, ComponentLike> namedArgument;
+        if (parameterizedType == Tag.class) {
+            namedArgument = value -> Argument.tag(argumentName, (Tag) value);
+        } else {
+            // Standard argument
+            final Function<Object, TranslationArgument> adapter = this.argumentAdapter.adapter(parameterizedType);
+            namedArgument = value -> Argument.argument(argumentName, adapter.apply(value));
+        }
+
+        // The target can only be decided from the runtime type of the value
+        if (target) {
+            return value -> value instanceof Pointered pointered ? Argument.target(pointered) : namedArgument.apply(value);
+        }
+
+        return namedArgument;
+    }
+
     @Override
     public void validate(final Method method) throws KotonohaValidationException {
 
@@ -0,0 +1,79 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translatable.message.policy.argument;
+
+import java.util.function.DoubleFunction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
+import net.kyori.adventure.text.ComponentLike;
+import org.jspecify.annotations.NullMarked;
+
+// Adapters of int, long and double parameters, which can be applied to the primitive value
+// by generated implementations, and to the boxed value by the array based adaptation.
+@NullMarked
+final class PrimitiveParameterAdapters {
+
+    private PrimitiveParameterAdapters() {
+    }
+
+    record IntParameterAdapter(IntFunction<? extends ComponentLike> function) implements Function<Object, ComponentLike>, IntFunction<ComponentLike> {
+
+        @Override
+        public ComponentLike apply(final int value) {
+            return this.function.apply(value);
+        }
+
+        @Override
+        public ComponentLike apply(final Object value) {
+            return this.function.apply((Integer) value);
+        }
+    }
+
+    record LongParameterAdapter(LongFunction<? extends ComponentLike> function) implements Function<Object, ComponentLike>, LongFunction<ComponentLike> {
+
+        @Override
+        public ComponentLike apply(final long value) {
+            return this.function.apply(value);
+        }
+
+        @Override
+        public ComponentLike apply(final Object value) {
+            return this.function.apply((Long) value);
+        }
+    }
+
+    record DoubleParameterAdapter(DoubleFunction<? extends ComponentLike> function) implements Function<Object, ComponentLike>, DoubleFunction<ComponentLike> {
+
+        @Override
+        public ComponentLike apply(final double value) {
+            return this.function.apply(value);
+        }
+
+        @Override
+        public ComponentLike apply(final Object value) {
+            return this.function.apply((Double) value);
+        }
+    }
+}
@@ -29,8 +29,13 @@ import io.github.namiuni.kotonoha.translatable.message.policy.InvocationPolicy;
 import io.github.namiuni.kotonoha.translatable.message.policy.argument.tag.TagNameResolver;
 import io.github.namiuni.kotonoha.translatable.message.utility.TranslationArgumentAdapter;
 import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.List;
+import java.util.function.Function;
 import net.kyori.adventure.text.ComponentLike;
+import org.jetbrains.annotations.ApiStatus;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Defines how method arguments are adapted into {@link ComponentLike} values
@@ -199,4 +204,44 @@ public interface TranslationArgumentAdaptationPolicy extends InvocationPolicy {
      * @since 0.1.0
      */
     ComponentLike adaptArgument(InvocationArgument invocationArgument) throws IllegalArgumentException, NullPointerException;
+
+    /**
+     * Compiles the argument adaptation for the specified method.
+     * <p>
+     * The returned function is created once per method when the proxy instance is created,
+     * and is applied to the raw arguments of every invocation of that method. The default
+     * implementation creates an {@link InvocationContext} and delegates to
+     * {@link #adaptArgumentArray(InvocationContext)}; policies can resolve adapters and
+     * argument names per parameter ahead of time and adapt the raw arguments directly.
+     * When this method is not overridden, message instances adapt the arguments from the context they
+     * create once per invocation for the key, argument and result policies.
+     *
+     * @param method the method that has passed {@link #validate(Method)}
+     * @return a function adapting the arguments of an invocation
+     * @since 0.3.0
+     */
+    @ApiStatus.Experimental
+    default Function<@Nullable Object[], ComponentLike[]> compile(final Method method) {
+        final Parameter[] parameters = method.getParameters();
+        return args -> this.adaptArgumentArray(InvocationContext.of(method, parameters, args));
+    }
+
+    /**
+     * Compiles the adaptation of each parameter of the specified method.
+     * <p>
+     * Implementations generated for message interfaces adapt each argument with the adapter of its parameter,
+     * without collecting the arguments into an array. The adapter of an {@code int}, {@code long} or {@code double}
+     * parameter can also implement {@link java.util.function.IntFunction}, {@link java.util.function.LongFunction}
+     * or {@link java.util.function.DoubleFunction} to adapt the primitive value without boxing it. Adapters are
+     * never applied to {@code null}. The default implementation returns {@code null}, so the arguments are adapted
+     * together by the function returned by {@link #compile(Method)}.
+     *
+     * @param method the method that has passed {@link #validate(Method)}
+     * @return the adapter of each parameter, or {@code null} if the arguments can only be adapted together
+     * @since 0.3.0
+     */
+    @ApiStatus.Experimental
+    default @Nullable List<Function<Object, ? extends ComponentLike>> compileParameters(final Method method) {
+        return null;
+    }
 }
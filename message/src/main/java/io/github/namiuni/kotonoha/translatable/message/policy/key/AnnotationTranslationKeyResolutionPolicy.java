@@ -27,7 +27,9 @@ import io.github.namiuni.kotonoha.annotations.Key;
 import io.github.namiuni.kotonoha.translatable.message.context.InvocationContext;
 import io.github.namiuni.kotonoha.translatable.message.policy.KotonohaValidationException;
 import java.lang.reflect.Method;
+import java.util.function.Function;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 @NullMarked
 record AnnotationTranslationKeyResolutionPolicy() implements TranslationKeyResolutionPolicy {
@@ -38,13 +40,29 @@ record AnnotationTranslationKeyResolutionPolicy() implements TranslationKeyResol
     public String resolveKey(final InvocationContext context) throws IllegalStateException {
         final Key keyAnnotation = context.method().getAnnotation(Key.class);
         if (keyAnnotation != null) {
-            return context.method().getAnnotation(Key.class).value();
+            return keyAnnotation.value();
         }
 
         final String message = "Missing annotation '@Key' on method '%s'".formatted(context.method().getName());
         throw new IllegalStateException(message);
     }
 
+    @Override
+    public Function<@Nullable Object[], String> compile(final Method method) {
+        final String key = method.getAnnotation(Key.class).value();
+        return _ -> key;
+    }
+
+    @Override
+    public boolean isPure(final Method method) {
+        return true;
+    }
+
+    @Override
+    public boolean usesArguments(final Method method) {
+        return false;
+    }
+
     @Override
     public void validate(final Method method) throws KotonohaValidationException {
         if (!method.isAnnotationPresent(Key.class)) {
@@ -25,7 +25,12 @@ package io.github.namiuni.kotonoha.translatable.message.policy.key;
 
 import io.github.namiuni.kotonoha.translatable.message.context.InvocationContext;
 import io.github.namiuni.kotonoha.translatable.message.policy.InvocationPolicy;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.function.Function;
+import org.jetbrains.annotations.ApiStatus;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Defines a policy for resolving the translation key from a proxy interface method invocation.
@@ -60,4 +65,40 @@ public sealed interface TranslationKeyResolutionPolicy extends InvocationPolicy
      * @since 0.1.0
      */
     String resolveKey(InvocationContext context) throws IllegalStateException;
+
+    /**
+     * Compiles the key resolution for the specified method.
+     * <p>
+     * The returned function is created once per method when the proxy instance is created,
+     * and is applied to the raw arguments of every invocation of that method. The default
+     * implementation creates an {@link InvocationContext} and delegates to
+     * {@link #resolveKey(InvocationContext)}; policies whose key does not depend on the
+     * invocation can resolve it ahead of time without creating a context.
+     * Message instances bypass this default and pass the context shared by all policies of the invocation instead.
+     *
+     * @param method the method that has passed {@link #validate(Method)}
+     * @return a function resolving the translation key from the arguments of an invocation
+     * @since 0.3.0
+     */
+    @ApiStatus.Experimental
+    default Function<@Nullable Object[], String> compile(final Method method) {
+        final Parameter[] parameters = method.getParameters();
+        return args -> this.resolveKey(InvocationContext.of(method, parameters, args));
+    }
+
+    /**
+     * Returns whether the key resolution compiled for the specified method reads the arguments of an invocation.
+     * <p>
+     * Implementations generated for message interfaces adapt the arguments of methods whose policies
+     * do not read them one by one, without collecting them into an array first.
+     * The default implementation returns {@code true}.
+     *
+     * @param method the method that has passed {@link #validate(Method)}
+     * @return {@code true} if the function returned by {@link #compile(Method)} reads the arguments
+     * @since 0.3.0
+     */
+    @ApiStatus.Experimental
+    default boolean usesArguments(final Method method) {
+        return true;
+    }
 }
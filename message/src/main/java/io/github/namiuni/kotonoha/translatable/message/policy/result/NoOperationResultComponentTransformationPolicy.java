@@ -27,9 +27,11 @@ import io.github.namiuni.kotonoha.translatable.message.context.InvocationContext
 import io.github.namiuni.kotonoha.translatable.message.policy.KotonohaValidationException;
 import io.leangen.geantyref.GenericTypeReflector;
 import java.lang.reflect.Method;
+import java.util.function.BiFunction;
 import net.kyori.adventure.text.TranslatableComponent;
 import org.jetbrains.annotations.UnknownNullability;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 @NullMarked
 record NoOperationResultComponentTransformationPolicy() implements ResultComponentTransformationPolicy {
@@ -41,6 +43,21 @@ record NoOperationResultComponentTransformationPolicy() implements ResultCompone
         return component;
     }
 
+    @Override
+    public BiFunction<TranslatableComponent, @Nullable Object[], @UnknownNullability Object> compile(final Method method) {
+        return (component, _) -> component;
+    }
+
+    @Override
+    public boolean isPure(final Method method) {
+        return true;
+    }
+
+    @Override
+    public boolean usesArguments(final Method method) {
+        return false;
+    }
+
     @Override
     public void validate(final Method method) throws KotonohaValidationException {
         if (GenericTypeReflector.isSuperType(method.getGenericReturnType(), TranslatableComponent.class)) {
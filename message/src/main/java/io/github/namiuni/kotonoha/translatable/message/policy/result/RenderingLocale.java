@@ -0,0 +1,90 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translatable.message.policy.result;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Binds the locale that {@linkplain ResultComponentTransformationPolicy#rendering(net.kyori.adventure.translation.Translator) rendering}
+ * policies render messages in.
+ * <p>
+ * The locale is held in a {@link ScopedValue}, so it is only visible to the current thread
+ * (and to threads forked in a structured task scope) while the action runs.
+ *
+ * <pre>{@code
+ * RenderingLocale.run(player.locale(), () -> player.sendMessage(messages.welcome()));
+ * }</pre>
+ *
+ * @since 0.3.0
+ */
+@NullMarked
+public final class RenderingLocale {
+
+    private static final ScopedValue<Locale> LOCALE = ScopedValue.newInstance();
+
+    private RenderingLocale() {
+    }
+
+    /**
+     * Runs the action with the specified locale bound.
+     *
+     * @param locale the locale to render messages in
+     * @param action the action to run
+     * @since 0.3.0
+     */
+    public static void run(final Locale locale, final Runnable action) {
+        Objects.requireNonNull(locale, "locale");
+        Objects.requireNonNull(action, "action");
+        ScopedValue.where(LOCALE, locale).run(action);
+    }
+
+    /**
+     * Calls the action with the specified locale bound.
+     *
+     * @param <T>    the type of the result
+     * @param locale the locale to render messages in
+     * @param action the action to call
+     * @return the result of the action
+     * @since 0.3.0
+     */
+    public static <T> T call(final Locale locale, final Supplier<T> action) {
+        Objects.requireNonNull(locale, "locale");
+        Objects.requireNonNull(action, "action");
+        return ScopedValue.where(LOCALE, locale).call(action::get);
+    }
+
+    /**
+     * Returns the locale bound to the current thread.
+     *
+     * @return the bound locale, or an empty optional if no locale is bound
+     * @since 0.3.0
+     */
+    public static Optional<Locale> current() {
+        return LOCALE.isBound() ? Optional.of(LOCALE.get()) : Optional.empty();
+    }
+}
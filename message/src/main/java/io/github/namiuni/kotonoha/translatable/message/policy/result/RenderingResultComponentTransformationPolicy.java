@@ -0,0 +1,167 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translatable.message.policy.result;
+
+import io.github.namiuni.kotonoha.annotations.Target;
+import io.github.namiuni.kotonoha.translatable.message.context.InvocationContext;
+import io.github.namiuni.kotonoha.translatable.message.policy.KotonohaValidationException;
+import io.github.namiuni.kotonoha.translatable.message.utility.ComponentTransformer;
+import io.leangen.geantyref.GenericTypeReflector;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.pointer.Pointered;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.renderer.TranslatableComponentRenderer;
+import net.kyori.adventure.translation.Translator;
+import org.jetbrains.annotations.UnknownNullability;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+@NullMarked
+final class RenderingResultComponentTransformationPolicy implements ResultComponentTransformationPolicy {
+
+    private static final int NO_TARGET = -1;
+
+    private final Translator source;
+    private final @Nullable ComponentTransformer transformer;
+    private final TranslatableComponentRenderer<Locale> renderer;
+
+    RenderingResultComponentTransformationPolicy(final Translator source, final @Nullable ComponentTransformer transformer) {
+        this.source = source;
+        this.transformer = transformer;
+        this.renderer = TranslatableComponentRenderer.usingTranslationSource(source);
+    }
+
+    // The first argument that is a Pointered type or annotated with @Target, as in the MiniMessage argument policy
+    private static int targetIndex(final Method method) {
+        final Parameter[] parameters = method.getParameters();
+        for (int index = 0; index < parameters.length; index++) {
+            final Parameter parameter = parameters[index];
+            final Type parameterType = parameter.getParameterizedType();
+            if (parameterType.equals(Pointered.class)
+                    || parameter.isAnnotationPresent(Target.class) && GenericTypeReflector.isSuperType(Pointered.class, parameterType)) {
+                return index;
+            }
+        }
+        return NO_TARGET;
+    }
+
+    private static Optional<Locale> locale(final @Nullable Object target) {
+        if (target instanceof Pointered pointered) {
+            final Optional<Locale> locale = pointered.get(Identity.LOCALE);
+            if (locale.isPresent()) {
+                return locale;
+            }
+        }
+        return RenderingLocale.current();
+    }
+
+    @Override
+    public @UnknownNullability Object transformComponent(final TranslatableComponent component, final InvocationContext context) {
+        final int targetIndex = RenderingResultComponentTransformationPolicy.targetIndex(context.method());
+        final @Nullable Object target = targetIndex == NO_TARGET
+                ? null
+                : context.invocationArguments()[targetIndex].value();
+        return this.compileTransformation(context.method()).apply(this.render(component, target));
+    }
+
+    @Override
+    public BiFunction<TranslatableComponent, @Nullable Object[], @UnknownNullability Object> compile(final Method method) {
+        final Function<Component, @UnknownNullability Object> transformation = this.compileTransformation(method);
+        final int targetIndex = RenderingResultComponentTransformationPolicy.targetIndex(method);
+        if (targetIndex == NO_TARGET) {
+            return (component, _) -> transformation.apply(this.render(component, null));
+        }
+        return (component, args) -> transformation.apply(this.render(component, args[targetIndex]));
+    }
+
+    private Component render(final TranslatableComponent component, final @Nullable Object target) {
+        final Optional<Locale> locale = RenderingResultComponentTransformationPolicy.locale(target);
+        // Without a locale the component is left to the platform's global translator
+        return locale.isPresent() ? this.renderer.render(component, locale.get()) : component;
+    }
+
+    private Function<Component, @UnknownNullability Object> compileTransformation(final Method method) {
+        final ComponentTransformer componentTransformer = this.transformer;
+        final Type genericReturnType = method.getGenericReturnType();
+
+        if (componentTransformer != null && componentTransformer.supports(genericReturnType)) {
+            return component -> componentTransformer.transform(genericReturnType, component);
+        }
+        return component -> component;
+    }
+
+    @Override
+    public boolean usesArguments(final Method method) {
+        // Only the target is read
+        return RenderingResultComponentTransformationPolicy.targetIndex(method) != NO_TARGET;
+    }
+
+    @Override
+    public boolean isPure(final Method method) {
+        // The rendered result depends on the bound locale
+        return false;
+    }
+
+    @Override
+    public void validate(final Method method) throws KotonohaValidationException {
+        if (this.transformer != null && this.transformer.supports(method.getGenericReturnType())) {
+            return;
+        }
+
+        if (GenericTypeReflector.isSuperType(method.getGenericReturnType(), Component.class)) {
+            return;
+        }
+
+        final String message = "Unsupported return type '%s' from method '%s'. " +
+                "Rendered messages are not necessarily translatable, declare the return type as Component " +
+                "or register a transformer for this type in ComponentTransformer";
+        throw new KotonohaValidationException(message.formatted(method.getGenericReturnType(), method.getName()));
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object other) {
+        return other instanceof RenderingResultComponentTransformationPolicy policy
+                && this.source.equals(policy.source)
+                && Objects.equals(this.transformer, policy.transformer);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.source, this.transformer);
+    }
+
+    @Override
+    public String toString() {
+        return "RenderingResultComponentTransformationPolicy[source=%s, transformer=%s]".formatted(this.source, this.transformer);
+    }
+}
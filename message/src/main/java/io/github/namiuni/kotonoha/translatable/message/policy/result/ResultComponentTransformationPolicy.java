@@ -26,10 +26,16 @@ package io.github.namiuni.kotonoha.translatable.message.policy.result;
 import io.github.namiuni.kotonoha.translatable.message.context.InvocationContext;
 import io.github.namiuni.kotonoha.translatable.message.policy.InvocationPolicy;
 import io.github.namiuni.kotonoha.translatable.message.utility.ComponentTransformer;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
 import java.util.Objects;
+import java.util.function.BiFunction;
 import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.translation.Translator;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.UnknownNullability;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Defines the policy for transforming the final {@link TranslatableComponent}
@@ -40,7 +46,7 @@ import org.jspecify.annotations.NullMarked;
  * @since 0.1.0
  */
 @NullMarked
-public sealed interface ResultComponentTransformationPolicy extends InvocationPolicy permits CustomResultComponentTransformationPolicy, NoOperationResultComponentTransformationPolicy, StandardResultComponentTransformationPolicy {
+public sealed interface ResultComponentTransformationPolicy extends InvocationPolicy permits CustomResultComponentTransformationPolicy, NoOperationResultComponentTransformationPolicy, RenderingResultComponentTransformationPolicy, StandardResultComponentTransformationPolicy {
 
     /**
      * Returns a standard policy that uses the specified transformer to handle the {@link TranslatableComponent} transformation.
@@ -64,6 +70,46 @@ public sealed interface ResultComponentTransformationPolicy extends InvocationPo
         return NoOperationResultComponentTransformationPolicy.INSTANCE;
     }
 
+    /**
+     * Returns a policy that renders the created component against the specified translation source,
+     * such as a {@code KotonohaTranslationStore}, instead of leaving it to the global translator.
+     * <p>
+     * The locale is taken from the first {@link net.kyori.adventure.pointer.Pointered} argument
+     * (a parameter of that type or annotated with {@link io.github.namiuni.kotonoha.annotations.Target})
+     * that has an {@link net.kyori.adventure.identity.Identity#LOCALE} pointer, and otherwise
+     * from {@link RenderingLocale}. When neither provides a locale, the component is returned unrendered.
+     * Methods using this policy must return {@link net.kyori.adventure.text.Component} or a supertype of it.
+     *
+     * <pre>{@code
+     * InvocationConfiguration config = FormatTypes.MINI_MESSAGE
+     *         .withResultPolicy(ResultComponentTransformationPolicy.rendering(translationStore));
+     * }</pre>
+     *
+     * @param source the translation source to render with
+     * @return the rendering policy
+     * @since 0.3.0
+     */
+    static ResultComponentTransformationPolicy rendering(final Translator source) {
+        Objects.requireNonNull(source, "source");
+        return new RenderingResultComponentTransformationPolicy(source, null);
+    }
+
+    /**
+     * Returns a policy that renders the created component against the specified translation source
+     * and uses the specified transformer to transform the rendered component to the return type.
+     *
+     * @param source      the translation source to render with
+     * @param transformer the transformer to use for transforming the rendered component to the return type
+     * @return the rendering policy
+     * @see #rendering(Translator)
+     * @since 0.3.0
+     */
+    static ResultComponentTransformationPolicy rendering(final Translator source, final ComponentTransformer transformer) {
+        Objects.requireNonNull(source, "source");
+        Objects.requireNonNull(transformer, "transformer");
+        return new RenderingResultComponentTransformationPolicy(source, transformer);
+    }
+
     /**
      * Transforms the given {@link TranslatableComponent} into the object required by the method's return type.
      *
@@ -75,4 +121,41 @@ public sealed interface ResultComponentTransformationPolicy extends InvocationPo
      */
     @UnknownNullability
     Object transformComponent(TranslatableComponent component, InvocationContext context);
+
+    /**
+     * Compiles the result transformation for the specified method.
+     * <p>
+     * The returned function is created once per method when the proxy instance is created,
+     * and is applied to the created component and the raw arguments of every invocation of that method.
+     * The default implementation creates an {@link InvocationContext} and delegates to
+     * {@link #transformComponent(TranslatableComponent, InvocationContext)}; policies that only
+     * depend on the method signature can select their transformation ahead of time without creating a context.
+     * Message instances do not call this default, the context of an invocation is created once and
+     * reused by every policy that needs it.
+     *
+     * @param method the method that has passed {@link #validate(Method)}
+     * @return a function transforming the created component into the return value of an invocation
+     * @since 0.3.0
+     */
+    @ApiStatus.Experimental
+    default BiFunction<TranslatableComponent, @Nullable Object[], @UnknownNullability Object> compile(final Method method) {
+        final Parameter[] parameters = method.getParameters();
+        return (component, args) -> this.transformComponent(component, InvocationContext.of(method, parameters, args));
+    }
+
+    /**
+     * Returns whether the transformation compiled for the specified method reads the arguments of an invocation.
+     * <p>
+     * When neither the key nor the result policy of a method reads the arguments, implementations generated
+     * for message interfaces pass them to the argument policy one by one instead of in an array.
+     * The default implementation returns {@code true}.
+     *
+     * @param method the method that has passed {@link #validate(Method)}
+     * @return {@code true} if the function returned by {@link #compile(Method)} reads the arguments
+     * @since 0.3.0
+     */
+    @ApiStatus.Experimental
+    default boolean usesArguments(final Method method) {
+        return true;
+    }
 }
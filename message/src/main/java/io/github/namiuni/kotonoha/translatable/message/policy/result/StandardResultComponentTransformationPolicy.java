@@ -29,6 +29,7 @@ import io.github.namiuni.kotonoha.translatable.message.utility.ComponentTransfor
 import io.leangen.geantyref.GenericTypeReflector;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.util.function.BiFunction;
 import net.kyori.adventure.text.TranslatableComponent;
 import org.jetbrains.annotations.UnknownNullability;
 import org.jspecify.annotations.NullMarked;
@@ -51,6 +52,30 @@ record StandardResultComponentTransformationPolicy(@Nullable ComponentTransforme
         return component;
     }
 
+    @Override
+    public BiFunction<TranslatableComponent, @Nullable Object[], @UnknownNullability Object> compile(final Method method) {
+        final ComponentTransformer componentTransformer = this.transformer;
+        final Type genericReturnType = method.getGenericReturnType();
+
+        if (componentTransformer != null && componentTransformer.supports(genericReturnType)) {
+            return (component, _) -> componentTransformer.transform(genericReturnType, component);
+        }
+
+        // Don't do anything unnecessary.
+        return (component, _) -> component;
+    }
+
+    @Override
+    public boolean usesArguments(final Method method) {
+        return false;
+    }
+
+    @Override
+    public boolean isPure(final Method method) {
+        // Transformers may create mutable or context dependent results
+        return this.transformer == null || !this.transformer.supports(method.getGenericReturnType());
+    }
+
     @Override
     public void validate(final Method method) throws KotonohaValidationException {
         if (this.transformer != null && this.transformer.supports(method.getGenericReturnType())) {
@@ -0,0 +1,98 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translatable.message.utility;
+
+import java.util.Locale;
+import java.util.Objects;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.renderer.TranslatableComponentRenderer;
+import net.kyori.adventure.translation.GlobalTranslator;
+import net.kyori.adventure.translation.Translator;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Sends a message to many audiences, rendering it only once per locale.
+ * <p>
+ * Audiences are grouped by their {@link Identity#LOCALE} pointer, the message is rendered
+ * once for every distinct locale and the rendered component is sent to the whole group.
+ * Audiences without a locale receive the message as it is and translate it themselves.
+ *
+ * <pre>{@code
+ * MessageBroadcaster broadcaster = MessageBroadcaster.of(translationStore);
+ * broadcaster.broadcast(server.getOnlinePlayers(), messages.announcement());
+ * }</pre>
+ *
+ * @since 0.3.0
+ */
+@NullMarked
+public sealed interface MessageBroadcaster permits MessageBroadcasterImpl {
+
+    /**
+     * Returns a broadcaster that renders messages with the {@link GlobalTranslator}.
+     *
+     * @return a broadcaster using the global translator
+     * @since 0.3.0
+     */
+    static MessageBroadcaster global() {
+        return MessageBroadcasterImpl.GLOBAL;
+    }
+
+    /**
+     * Returns a broadcaster that renders messages with the specified translation source,
+     * such as a {@code KotonohaTranslationStore}.
+     * <p>
+     * Translatable components the source cannot translate are sent untranslated,
+     * so that the platform can still translate them through the {@link GlobalTranslator}.
+     *
+     * @param source the translation source
+     * @return a broadcaster using the specified translation source
+     * @since 0.3.0
+     */
+    static MessageBroadcaster of(final Translator source) {
+        Objects.requireNonNull(source, "source");
+        return new MessageBroadcasterImpl(TranslatableComponentRenderer.usingTranslationSource(source)::render);
+    }
+
+    /**
+     * Renders the message for the specified locale.
+     *
+     * @param message the message to render
+     * @param locale  the locale
+     * @return the rendered message
+     * @since 0.3.0
+     */
+    Component render(ComponentLike message, Locale locale);
+
+    /**
+     * Sends the message to every audience, rendering it once per distinct locale.
+     *
+     * @param audiences the audiences to send the message to
+     * @param message   the message, typically the result of a message interface method
+     * @since 0.3.0
+     */
+    void broadcast(Iterable<? extends Audience> audiences, ComponentLike message);
+}
@@ -0,0 +1,91 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translatable.message.utility;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.translation.GlobalTranslator;
+import org.jspecify.annotations.NullMarked;
+
+@NullMarked
+final class MessageBroadcasterImpl implements MessageBroadcaster {
+
+    static final MessageBroadcaster GLOBAL = new MessageBroadcasterImpl(GlobalTranslator::render);
+
+    private final BiFunction<Component, Locale, Component> renderer;
+
+    MessageBroadcasterImpl(final BiFunction<Component, Locale, Component> renderer) {
+        this.renderer = renderer;
+    }
+
+    @Override
+    public Component render(final ComponentLike message, final Locale locale) {
+        Objects.requireNonNull(message, "message");
+        Objects.requireNonNull(locale, "locale");
+        return this.renderer.apply(message.asComponent(), locale);
+    }
+
+    @Override
+    public void broadcast(final Iterable<? extends Audience> audiences, final ComponentLike message) {
+        Objects.requireNonNull(audiences, "audiences");
+        Objects.requireNonNull(message, "message");
+
+        final Map<Locale, List<Audience>> localized = new HashMap<>();
+        final List<Audience> unlocalized = new ArrayList<>();
+        for (final Audience audience : audiences) {
+            final Optional<Locale> locale = audience.get(Identity.LOCALE);
+            if (locale.isPresent()) {
+                localized.computeIfAbsent(locale.get(), ignored -> new ArrayList<>()).add(audience);
+            } else {
+                unlocalized.add(audience);
+            }
+        }
+
+        final Component component = message.asComponent();
+        for (final Map.Entry<Locale, List<Audience>> entry : localized.entrySet()) {
+            final Component rendered = this.renderer.apply(component, entry.getKey());
+            for (final Audience audience : entry.getValue()) {
+                audience.sendMessage(rendered);
+            }
+        }
+        for (final Audience audience : unlocalized) {
+            audience.sendMessage(component);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MessageBroadcaster[renderer=%s]".formatted(this.renderer);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translatable.message.utility;
+
+import net.kyori.adventure.text.TranslationArgument;
+import org.jspecify.annotations.NullMarked;
+
+// Shared numeric arguments for small values, which are the most common in messages (counts, levels, ping).
+@NullMarked
+final class NumericArgumentCache {
+
+    private static final int LOW = -128;
+    private static final int HIGH = 1023;
+
+    private static final TranslationArgument[] INT_ARGUMENTS = new TranslationArgument[HIGH - LOW + 1];
+    private static final TranslationArgument[] LONG_ARGUMENTS = new TranslationArgument[HIGH - LOW + 1];
+
+    static {
+        for (int i = 0; i < INT_ARGUMENTS.length; i++) {
+            INT_ARGUMENTS[i] = TranslationArgument.numeric(i + LOW);
+            LONG_ARGUMENTS[i] = TranslationArgument.numeric((long) i + LOW);
+        }
+    }
+
+    private NumericArgumentCache() {
+    }
+
+    static TranslationArgument numeric(final int value) {
+        if (value >= LOW && value <= HIGH) {
+            return INT_ARGUMENTS[value - LOW];
+        }
+
+        return TranslationArgument.numeric(value);
+    }
+
+    static TranslationArgument numeric(final long value) {
+        if (value >= LOW && value <= HIGH) {
+            return LONG_ARGUMENTS[(int) value - LOW];
+        }
+
+        return TranslationArgument.numeric(value);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translatable.message.utility;
+
+import java.util.function.DoubleFunction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
+import net.kyori.adventure.text.TranslationArgument;
+import org.jspecify.annotations.NullMarked;
+
+// Adapters registered for primitive types, keeping the specialized function
+// so that it can be applied without boxing.
+@NullMarked
+final class PrimitiveArgumentAdapters {
+
+    private PrimitiveArgumentAdapters() {
+    }
+
+    record IntAdapter(IntFunction<TranslationArgument> function) implements Function<Object, TranslationArgument> {
+
+        @Override
+        public TranslationArgument apply(final Object value) {
+            return this.function.apply((Integer) value);
+        }
+    }
+
+    record LongAdapter(LongFunction<TranslationArgument> function) implements Function<Object, TranslationArgument> {
+
+        @Override
+        public TranslationArgument apply(final Object value) {
+            return this.function.apply((Long) value);
+        }
+    }
+
+    record DoubleAdapter(DoubleFunction<TranslationArgument> function) implements Function<Object, TranslationArgument> {
+
+        @Override
+        public TranslationArgument apply(final Object value) {
+            return this.function.apply((Double) value);
+        }
+    }
+}
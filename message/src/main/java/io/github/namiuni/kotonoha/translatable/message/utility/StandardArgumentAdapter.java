@@ -42,13 +42,13 @@ final class StandardArgumentAdapter {
 
             // numbers
             .argument(Number.class, TranslationArgument::numeric)
-            .argument(int.class, TranslationArgument::numeric)
-            .argument(Integer.class, TranslationArgument::numeric)
-            .argument(long.class, TranslationArgument::numeric)
-            .argument(Long.class, TranslationArgument::numeric)
+            .intArgument(NumericArgumentCache::numeric)
+            .argument(Integer.class, NumericArgumentCache::numeric)
+            .longArgument(NumericArgumentCache::numeric)
+            .argument(Long.class, NumericArgumentCache::numeric)
             .argument(float.class, TranslationArgument::numeric)
             .argument(Float.class, TranslationArgument::numeric)
-            .argument(double.class, TranslationArgument::numeric)
+            .doubleArgument(TranslationArgument::numeric)
             .argument(Double.class, TranslationArgument::numeric)
 
             // boolean
@@ -27,7 +27,10 @@ import io.github.namiuni.kotonoha.translatable.message.policy.argument.Translati
 import io.leangen.geantyref.TypeToken;
 import java.lang.reflect.Type;
 import java.util.Objects;
+import java.util.function.DoubleFunction;
 import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.ComponentLike;
 import net.kyori.adventure.text.TranslationArgument;
@@ -95,24 +98,78 @@ public sealed interface TranslationArgumentAdapter permits TranslationArgumentAd
 
     /**
      * Adapts the specified value into a {@link TranslationArgument} according to its declared type.
+     * <p>
+     * If no adapter is registered for a class, the adapter of its nearest registered supertype is used,
+     * for example a {@link net.kyori.adventure.text.TextComponent} is adapted by the
+     * {@link net.kyori.adventure.text.Component} adapter. A parameterized type without an adapter of its own
+     * is adapted like its raw type. The resolution is cached per type.
      *
      * @param type  the type of the value to adapt
      * @param value the value to adapt
      * @return the resolved {@link TranslationArgument}
-     * @throws IllegalArgumentException if no adapter is registered for the specified type
+     * @throws IllegalArgumentException if no adapter is registered for the specified type or its supertypes
      * @since 0.1.0
      */
     TranslationArgument adapt(Type type, Object value) throws IllegalArgumentException;
 
+    /**
+     * Returns the adapter function registered for the specified type.
+     *
+     * <p>The returned function can be resolved once and reused for every value of the type,
+     * avoiding a lookup per adaptation.</p>
+     *
+     * @param type the type of the values to adapt
+     * @return the adapter function for the specified type
+     * @throws IllegalArgumentException if no adapter is registered for the specified type or its supertypes
+     * @since 0.3.0
+     */
+    Function<Object, TranslationArgument> adapter(Type type) throws IllegalArgumentException;
+
     /**
      * Checks if this adapter supports adaptation for the specified type.
      *
      * @param type the type of the value to adapt
-     * @return {@code true} if an adapter is registered for the specified type; {@code false} otherwise
+     * @return {@code true} if an adapter is registered for the specified type or one of its supertypes; {@code false} otherwise
      * @since 0.1.0
      */
     boolean supports(Type type);
 
+    /**
+     * Returns the adapter for {@code int} values.
+     *
+     * <p>If the adapter was registered with {@link Builder#intArgument(IntFunction)}, it is returned as is
+     * and adapts values without boxing. Otherwise, the adapter registered for {@code int.class} is wrapped.</p>
+     *
+     * @return the adapter for {@code int} values
+     * @throws IllegalArgumentException if no adapter is registered for {@code int}
+     * @since 0.3.0
+     */
+    IntFunction<TranslationArgument> intAdapter() throws IllegalArgumentException;
+
+    /**
+     * Returns the adapter for {@code long} values.
+     *
+     * <p>If the adapter was registered with {@link Builder#longArgument(LongFunction)}, it is returned as is
+     * and adapts values without boxing. Otherwise, the adapter registered for {@code long.class} is wrapped.</p>
+     *
+     * @return the adapter for {@code long} values
+     * @throws IllegalArgumentException if no adapter is registered for {@code long}
+     * @since 0.3.0
+     */
+    LongFunction<TranslationArgument> longAdapter() throws IllegalArgumentException;
+
+    /**
+     * Returns the adapter for {@code double} values.
+     *
+     * <p>If the adapter was registered with {@link Builder#doubleArgument(DoubleFunction)}, it is returned as is
+     * and adapts values without boxing. Otherwise, the adapter registered for {@code double.class} is wrapped.</p>
+     *
+     * @return the adapter for {@code double} values
+     * @throws IllegalArgumentException if no adapter is registered for {@code double}
+     * @since 0.3.0
+     */
+    DoubleFunction<TranslationArgument> doubleAdapter() throws IllegalArgumentException;
+
     /**
      * A builder for creating immutable translation argument adapter.
      *
@@ -142,6 +199,45 @@ public sealed interface TranslationArgumentAdapter permits TranslationArgumentAd
          */
         <T> Builder argument(Class<T> type, Function<T, TranslationArgument> adapter);
 
+        /**
+         * Registers a primitive-specialized function to adapt {@code int} values into a {@link TranslationArgument}.
+         *
+         * <p>Replaces any adapter registered for {@code int.class}. Unlike a {@link Function},
+         * the function receives the primitive value, so precompiled invocations can apply it without boxing.</p>
+         *
+         * @param adapter the mapping function that converts the value into a {@link TranslationArgument}
+         * @return this builder
+         * @see TranslationArgumentAdapter#intAdapter()
+         * @since 0.3.0
+         */
+        Builder intArgument(IntFunction<TranslationArgument> adapter);
+
+        /**
+         * Registers a primitive-specialized function to adapt {@code long} values into a {@link TranslationArgument}.
+         *
+         * <p>Replaces any adapter registered for {@code long.class}. Unlike a {@link Function},
+         * the function receives the primitive value, so precompiled invocations can apply it without boxing.</p>
+         *
+         * @param adapter the mapping function that converts the value into a {@link TranslationArgument}
+         * @return this builder
+         * @see TranslationArgumentAdapter#longAdapter()
+         * @since 0.3.0
+         */
+        Builder longArgument(LongFunction<TranslationArgument> adapter);
+
+        /**
+         * Registers a primitive-specialized function to adapt {@code double} values into a {@link TranslationArgument}.
+         *
+         * <p>Replaces any adapter registered for {@code double.class}. Unlike a {@link Function},
+         * the function receives the primitive value, so precompiled invocations can apply it without boxing.</p>
+         *
+         * @param adapter the mapping function that converts the value into a {@link TranslationArgument}
+         * @return this builder
+         * @see TranslationArgumentAdapter#doubleAdapter()
+         * @since 0.3.0
+         */
+        Builder doubleArgument(DoubleFunction<TranslationArgument> adapter);
+
         /**
          * Registers a custom function to adapt a value of the specified type token into a {@link ComponentLike} first, then wraps it as a {@link TranslationArgument}.
          *
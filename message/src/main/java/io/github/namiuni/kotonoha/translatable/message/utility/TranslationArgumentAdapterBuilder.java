@@ -28,7 +28,10 @@ import java.lang.reflect.Type;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.DoubleFunction;
 import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
 import net.kyori.adventure.text.TranslationArgument;
 import org.jspecify.annotations.NullMarked;
 
@@ -66,6 +69,24 @@ final class TranslationArgumentAdapterBuilder implements TranslationArgumentAdap
         return this.register(type.getType(), adapter);
     }
 
+    @Override
+    public TranslationArgumentAdapter.Builder intArgument(final IntFunction<TranslationArgument> adapter) {
+        Objects.requireNonNull(adapter, "adapter");
+        return this.register(int.class, new PrimitiveArgumentAdapters.IntAdapter(adapter));
+    }
+
+    @Override
+    public TranslationArgumentAdapter.Builder longArgument(final LongFunction<TranslationArgument> adapter) {
+        Objects.requireNonNull(adapter, "adapter");
+        return this.register(long.class, new PrimitiveArgumentAdapters.LongAdapter(adapter));
+    }
+
+    @Override
+    public TranslationArgumentAdapter.Builder doubleArgument(final DoubleFunction<TranslationArgument> adapter) {
+        Objects.requireNonNull(adapter, "adapter");
+        return this.register(double.class, new PrimitiveArgumentAdapters.DoubleAdapter(adapter));
+    }
+
     @Override
     public TranslationArgumentAdapter build() {
         return new TranslationArgumentAdapterImpl(this.adapters);
@@ -24,37 +24,175 @@
 package io.github.namiuni.kotonoha.translatable.message.utility;
 
 import io.leangen.geantyref.GenericTypeReflector;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.DoubleFunction;
 import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
 import net.kyori.adventure.text.TranslationArgument;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 @NullMarked
-record TranslationArgumentAdapterImpl(Map<Type, Function<?, TranslationArgument>> adapters) implements TranslationArgumentAdapter {
+final class TranslationArgumentAdapterImpl implements TranslationArgumentAdapter {
+
+    private final Map<Type, Function<?, TranslationArgument>> adapters;
+
+    // Adapters resolved per class, including the ones inherited from supertypes.
+    // A ClassValue does not keep classes of other class loaders reachable.
+    private final ClassValue<Optional<Function<Object, TranslationArgument>>> dispatch = new ClassValue<>() {
+        @Override
+        protected Optional<Function<Object, TranslationArgument>> computeValue(final Class<?> type) {
+            return Optional.ofNullable(TranslationArgumentAdapterImpl.this.resolveClass(type));
+        }
+    };
 
     TranslationArgumentAdapterImpl(final Map<Type, Function<?, TranslationArgument>> adapters) {
         this.adapters = Map.copyOf(adapters);
     }
 
-    @SuppressWarnings("unchecked")
+    @Override
     public TranslationArgument adapt(final Type type, final Object value) {
-        final Function<?, TranslationArgument> adapter = this.adapters.get(type);
+        return this.adapter(type).apply(value);
+    }
+
+    @Override
+    public Function<Object, TranslationArgument> adapter(final Type type) {
+        final Function<Object, TranslationArgument> adapter = this.resolve(type);
 
         if (adapter == null) {
             final String message = "No adapter registered for type: %s";
             throw new IllegalArgumentException(message.formatted(GenericTypeReflector.getTypeName(type)));
         }
 
-        return ((Function<Object, TranslationArgument>) adapter).apply(value);
+        return adapter;
+    }
+
+    @Override
+    public IntFunction<TranslationArgument> intAdapter() {
+        final Function<Object, TranslationArgument> adapter = this.adapter(int.class);
+        if (adapter instanceof PrimitiveArgumentAdapters.IntAdapter intAdapter) {
+            return intAdapter.function();
+        }
+
+        return adapter::apply;
+    }
+
+    @Override
+    public LongFunction<TranslationArgument> longAdapter() {
+        final Function<Object, TranslationArgument> adapter = this.adapter(long.class);
+        if (adapter instanceof PrimitiveArgumentAdapters.LongAdapter longAdapter) {
+            return longAdapter.function();
+        }
+
+        return adapter::apply;
     }
 
+    @Override
+    public DoubleFunction<TranslationArgument> doubleAdapter() {
+        final Function<Object, TranslationArgument> adapter = this.adapter(double.class);
+        if (adapter instanceof PrimitiveArgumentAdapters.DoubleAdapter doubleAdapter) {
+            return doubleAdapter.function();
+        }
+
+        return adapter::apply;
+    }
+
+    @Override
     public boolean supports(final Type type) {
-        return this.adapters.containsKey(type);
+        return this.resolve(type) != null;
     }
 
     @Override
     public Builder toBuilder() {
         return new TranslationArgumentAdapterBuilder(this.adapters);
     }
+
+    private @Nullable Function<Object, TranslationArgument> resolve(final Type type) {
+        if (type instanceof Class<?> clazz) {
+            return this.dispatch.get(clazz).orElse(null);
+        }
+
+        // Generic types registered through a TypeToken
+        final Function<?, TranslationArgument> adapter = this.adapters.get(type);
+        if (adapter != null) {
+            return cast(adapter);
+        }
+
+        // Otherwise fall back to adapters of the raw type
+        if (type instanceof ParameterizedType parameterizedType && parameterizedType.getRawType() instanceof Class<?> rawType) {
+            return this.dispatch.get(rawType).orElse(null);
+        }
+
+        return null;
+    }
+
+    // Exact match first, then the nearest registered supertype (breadth first, superclass before interfaces)
+    private @Nullable Function<Object, TranslationArgument> resolveClass(final Class<?> type) {
+        final Function<?, TranslationArgument> exactAdapter = this.adapters.get(type);
+        if (exactAdapter != null) {
+            return cast(exactAdapter);
+        }
+
+        if (type.isPrimitive()) {
+            return null;
+        }
+
+        final Deque<Class<?>> queue = new ArrayDeque<>();
+        final Set<Class<?>> visited = new HashSet<>();
+        enqueueSupertypes(type, queue, visited);
+
+        while (!queue.isEmpty()) {
+            final Class<?> supertype = queue.poll();
+            final Function<?, TranslationArgument> adapter = this.adapters.get(supertype);
+            if (adapter != null) {
+                return cast(adapter);
+            }
+            enqueueSupertypes(supertype, queue, visited);
+        }
+
+        // Object is the least specific supertype of classes and interfaces alike
+        final Function<?, TranslationArgument> objectAdapter = this.adapters.get(Object.class);
+        return objectAdapter != null ? cast(objectAdapter) : null;
+    }
+
+    private static void enqueueSupertypes(final Class<?> type, final Deque<Class<?>> queue, final Set<Class<?>> visited) {
+        final Class<?> superclass = type.getSuperclass();
+        if (superclass != null && superclass != Object.class && visited.add(superclass)) {
+            queue.add(superclass);
+        }
+
+        for (final Class<?> superinterface : type.getInterfaces()) {
+            if (visited.add(superinterface)) {
+                queue.add(superinterface);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, TranslationArgument> cast(final Function<?, TranslationArgument> adapter) {
+        return (Function<Object, TranslationArgument>) adapter;
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object other) {
+        return other instanceof TranslationArgumentAdapterImpl adapter && this.adapters.equals(adapter.adapters);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.adapters.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "TranslationArgumentAdapterImpl[adapters=" + this.adapters + "]";
+    }
 }
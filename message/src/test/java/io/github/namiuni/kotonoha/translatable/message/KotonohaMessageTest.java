@@ -0,0 +1,699 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translatable.message;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import io.github.namiuni.kotonoha.annotations.Key;
+import io.github.namiuni.kotonoha.annotations.Name;
+import io.github.namiuni.kotonoha.annotations.Target;
+import io.github.namiuni.kotonoha.translatable.message.configuration.FormatTypes;
+import io.github.namiuni.kotonoha.translatable.message.configuration.ImplementationStrategy;
+import io.github.namiuni.kotonoha.translatable.message.configuration.InvocationConfiguration;
+import io.github.namiuni.kotonoha.translatable.message.context.InvocationArgument;
+import io.github.namiuni.kotonoha.translatable.message.context.InvocationContext;
+import io.github.namiuni.kotonoha.translatable.message.metrics.DurationHistogram;
+import io.github.namiuni.kotonoha.translatable.message.metrics.InvocationMetrics;
+import io.github.namiuni.kotonoha.translatable.message.metrics.MethodMetrics;
+import io.github.namiuni.kotonoha.translatable.message.policy.KotonohaValidationException;
+import io.github.namiuni.kotonoha.translatable.message.policy.argument.TranslationArgumentAdaptationPolicy;
+import io.github.namiuni.kotonoha.translatable.message.policy.key.CustomTranslationKeyResolutionPolicy;
+import io.github.namiuni.kotonoha.translatable.message.policy.result.CustomResultComponentTransformationPolicy;
+import io.github.namiuni.kotonoha.translatable.message.policy.result.RenderingLocale;
+import io.github.namiuni.kotonoha.translatable.message.policy.result.ResultComponentTransformationPolicy;
+import io.github.namiuni.kotonoha.translatable.message.utility.ComponentTransformer;
+import io.github.namiuni.kotonoha.translatable.message.utility.TranslationArgumentAdapter;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.pointer.Pointered;
+import net.kyori.adventure.pointer.Pointers;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.TranslationArgument;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import net.kyori.adventure.translation.TranslationStore;
+import org.jspecify.annotations.NullMarked;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@NullMarked
+@DisplayName("KotonohaMessage")
+final class KotonohaMessageTest {
+
+    interface MessageFormatMessages {
+
+        @Key("test.no.arguments")
+        Component noArguments();
+
+        @Key("test.arguments")
+        TranslatableComponent arguments(String name, int count);
+
+        default Component defaultMethod() {
+            return Component.text("default");
+        }
+    }
+
+    interface MiniMessageMessages {
+
+        @Key("test.named")
+        Component named(@Name("player_name") String playerName);
+    }
+
+    interface StringMessages {
+
+        @Key("test.string")
+        String string();
+    }
+
+    interface MissingKeyMessages {
+
+        Component missingKey();
+    }
+
+    interface RenderedMessages {
+
+        @Key("test.rendered")
+        Component rendered();
+
+        @Key("test.rendered")
+        Component renderedFor(@Target Pointered target);
+    }
+
+    interface TranslatableRenderedMessages {
+
+        @Key("test.rendered")
+        TranslatableComponent translatable();
+    }
+
+    // Loaded again by IsolatingClassLoader, like the interface of a plugin
+    public interface IsolatedMessages {
+
+        @Key("test.isolated")
+        Component isolated();
+    }
+
+    public static final class IsolatedLookup {
+
+        public static MethodHandles.Lookup lookup() {
+            return MethodHandles.lookup();
+        }
+    }
+
+    // Defines the isolated classes itself, so that they belong to the unnamed module of another class loader
+    private static final class IsolatingClassLoader extends URLClassLoader {
+
+        private IsolatingClassLoader() {
+            super(
+                    new URL[] {KotonohaMessageTest.class.getProtectionDomain().getCodeSource().getLocation()},
+                    KotonohaMessageTest.class.getClassLoader()
+            );
+        }
+
+        @Override
+        protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith(KotonohaMessageTest.class.getName() + "$Isolated")) {
+                return super.loadClass(name, resolve);
+            }
+
+            synchronized (this.getClassLoadingLock(name)) {
+                final Class<?> loaded = this.findLoadedClass(name);
+                return loaded != null ? loaded : this.findClass(name);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("MessageFormat proxy")
+    final class MessageFormatProxyTest {
+
+        private final MessageFormatMessages messages = KotonohaMessage.createProxy(MessageFormatMessages.class, FormatTypes.MESSAGE_FORMAT);
+
+        @Test
+        @DisplayName("should resolve the key of a method without arguments")
+        void shouldResolveKeyWithoutArguments() {
+            final TranslatableComponent component = assertInstanceOf(TranslatableComponent.class, this.messages.noArguments());
+
+            assertEquals("test.no.arguments", component.key());
+            assertEquals(List.of(), component.arguments());
+        }
+
+        @Test
+        @DisplayName("should adapt arguments in declaration order")
+        void shouldAdaptArguments() {
+            final TranslatableComponent component = this.messages.arguments("Steve", 3);
+
+            assertEquals("test.arguments", component.key());
+            assertEquals(
+                    List.of(TranslationArgument.component(Component.text("Steve")), TranslationArgument.numeric(3)),
+                    component.arguments()
+            );
+        }
+
+        @Test
+        @DisplayName("should produce the same component on repeated invocations")
+        void shouldBeRepeatable() {
+            assertEquals(this.messages.arguments("Alex", 1), this.messages.arguments("Alex", 1));
+        }
+
+        @Test
+        @DisplayName("should reject null arguments")
+        void shouldRejectNullArgument() {
+            assertThrows(NullPointerException.class, () -> this.messages.arguments(null, 1));
+        }
+
+        @Test
+        @DisplayName("should invoke default methods")
+        void shouldInvokeDefaultMethod() {
+            assertEquals(Component.text("default"), this.messages.defaultMethod());
+        }
+    }
+
+    @Nested
+    @DisplayName("MiniMessage proxy")
+    final class MiniMessageProxyTest {
+
+        @Test
+        @DisplayName("should adapt arguments with their resolved tag names")
+        void shouldAdaptNamedArguments() {
+            final MiniMessageMessages messages = KotonohaMessage.createProxy(MiniMessageMessages.class, FormatTypes.MINI_MESSAGE);
+            final TranslatableComponent component = assertInstanceOf(TranslatableComponent.class, messages.named("Steve"));
+
+            assertEquals("test.named", component.key());
+            assertEquals(1, component.arguments().size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Rendering result policy")
+    final class RenderingResultPolicyTest {
+
+        private final TranslationStore.StringBased<MessageFormat> store = TranslationStore.messageFormat(net.kyori.adventure.key.Key.key("kotonoha", "test"));
+
+        private RenderedMessages messages() {
+            this.store.register("test.rendered", Locale.US, new MessageFormat("Hello", Locale.US));
+            this.store.register("test.rendered", Locale.JAPAN, new MessageFormat("こんにちは", Locale.JAPAN));
+            return KotonohaMessage.createProxy(
+                    RenderedMessages.class,
+                    FormatTypes.MINI_MESSAGE.withResultPolicy(ResultComponentTransformationPolicy.rendering(this.store))
+            );
+        }
+
+        @Test
+        @DisplayName("should render in the scoped locale")
+        void shouldRenderInScopedLocale() {
+            final RenderedMessages messages = this.messages();
+
+            final Component rendered = RenderingLocale.call(Locale.JAPAN, messages::rendered);
+
+            assertEquals("こんにちは", PlainTextComponentSerializer.plainText().serialize(rendered));
+        }
+
+        @Test
+        @DisplayName("should render in the locale of the target argument")
+        void shouldRenderInTargetLocale() {
+            final RenderedMessages messages = this.messages();
+            final Pointers pointers = Pointers.builder().withStatic(Identity.LOCALE, Locale.US).build();
+            final Pointered target = new Pointered() {
+                @Override
+                public Pointers pointers() {
+                    return pointers;
+                }
+            };
+
+            final Component rendered = RenderingLocale.call(Locale.JAPAN, () -> messages.renderedFor(target));
+
+            assertEquals("Hello", PlainTextComponentSerializer.plainText().serialize(rendered));
+        }
+
+        @Test
+        @DisplayName("should leave the component untranslated without a locale")
+        void shouldNotRenderWithoutLocale() {
+            final Component rendered = this.messages().rendered();
+
+            assertInstanceOf(TranslatableComponent.class, rendered);
+        }
+
+        @Test
+        @DisplayName("should reject methods returning translatable components")
+        void shouldRejectTranslatableReturnType() {
+            assertThrows(
+                    KotonohaValidationException.class,
+                    () -> KotonohaMessage.createProxy(
+                            TranslatableRenderedMessages.class,
+                            FormatTypes.MINI_MESSAGE.withResultPolicy(ResultComponentTransformationPolicy.rendering(this.store))
+                    )
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Invocation metrics")
+    final class InvocationMetricsTest {
+
+        @Test
+        @DisplayName("should record invocations per method")
+        void shouldRecordInvocations() throws NoSuchMethodException {
+            final InvocationMetrics metrics = InvocationMetrics.create();
+            final MessageFormatMessages messages = KotonohaMessage.createProxy(
+                    MessageFormatMessages.class,
+                    FormatTypes.MESSAGE_FORMAT.withInvocationListener(metrics)
+            );
+
+            messages.arguments("Alice", 1);
+            messages.arguments("Bob", 2);
+
+            final Method method = MessageFormatMessages.class.getMethod("arguments", String.class, int.class);
+            final Map<Method, MethodMetrics> snapshot = metrics.snapshot();
+            final MethodMetrics methodMetrics = snapshot.get(method);
+            assertEquals(1, snapshot.size());
+            assertEquals(2, methodMetrics.invocations());
+            assertEquals(0, methodMetrics.cachedInvocations());
+            assertEquals(2, methodMetrics.argumentAdaptation().count());
+            assertEquals(2, methodMetrics.resultTransformation().count());
+        }
+
+        @Test
+        @DisplayName("should count cached constant results")
+        void shouldCountCachedInvocations() throws NoSuchMethodException {
+            final InvocationMetrics metrics = InvocationMetrics.create();
+            final MessageFormatMessages messages = KotonohaMessage.createProxy(
+                    MessageFormatMessages.class,
+                    FormatTypes.MESSAGE_FORMAT.withInvocationListener(metrics)
+            );
+
+            messages.noArguments();
+            messages.noArguments();
+            messages.noArguments();
+
+            final MethodMetrics methodMetrics = metrics.snapshot().get(MessageFormatMessages.class.getMethod("noArguments"));
+            assertEquals(3, methodMetrics.invocations());
+            assertEquals(2, methodMetrics.cachedInvocations());
+            assertEquals(1, methodMetrics.argumentAdaptation().count());
+        }
+
+        @Test
+        @DisplayName("should estimate percentiles within the recorded range")
+        void shouldEstimatePercentiles() throws NoSuchMethodException {
+            final InvocationMetrics metrics = InvocationMetrics.create();
+            final Method method = MessageFormatMessages.class.getMethod("noArguments");
+            metrics.onInvocation(method, 0, 100);
+            metrics.onInvocation(method, 0, 1_000);
+            metrics.onInvocation(method, 0, 10_000);
+
+            final DurationHistogram histogram = metrics.snapshot().get(method).resultTransformation();
+            assertEquals(3, histogram.count());
+            assertEquals(11_100, histogram.totalNanos());
+            assertEquals(10_000, histogram.maxNanos());
+            assertEquals(127, histogram.percentileNanos(0.0));
+            assertEquals(1_023, histogram.percentileNanos(0.5));
+            assertEquals(10_000, histogram.percentileNanos(1.0));
+            assertEquals(0, metrics.snapshot().get(method).argumentAdaptation().percentileNanos(0.99));
+            assertThrows(IllegalArgumentException.class, () -> histogram.percentileNanos(1.5));
+        }
+
+        @Test
+        @DisplayName("should discard metrics on reset")
+        void shouldReset() {
+            final InvocationMetrics metrics = InvocationMetrics.create();
+            final MessageFormatMessages messages = KotonohaMessage.createProxy(
+                    MessageFormatMessages.class,
+                    FormatTypes.MESSAGE_FORMAT.withInvocationListener(metrics)
+            );
+
+            messages.arguments("Alice", 1);
+            metrics.reset();
+
+            assertTrue(metrics.snapshot().isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Instance caching")
+    final class InstanceCachingTest {
+
+        @Test
+        @DisplayName("should reuse the instance for equal configurations")
+        void shouldReuseInstance() {
+            final MessageFormatMessages first = KotonohaMessage.createProxy(MessageFormatMessages.class, FormatTypes.MESSAGE_FORMAT);
+            final MessageFormatMessages second = KotonohaMessage.createProxy(
+                    MessageFormatMessages.class,
+                    FormatTypes.MESSAGE_FORMAT.withResultPolicy(ResultComponentTransformationPolicy.noOperation())
+            );
+
+            assertSame(first, second);
+        }
+
+        @Test
+        @DisplayName("should create another instance for a different configuration")
+        void shouldNotReuseInstanceForDifferentConfiguration() {
+            final MessageFormatMessages messageFormat = KotonohaMessage.createProxy(MessageFormatMessages.class, FormatTypes.MESSAGE_FORMAT);
+            final MessageFormatMessages miniMessage = KotonohaMessage.createProxy(MessageFormatMessages.class, FormatTypes.MINI_MESSAGE);
+
+            assertNotSame(messageFormat, miniMessage);
+        }
+
+        @Test
+        @DisplayName("should create a new instance after invalidation")
+        void shouldCreateNewInstanceAfterInvalidation() {
+            final MessageFormatMessages first = KotonohaMessage.createProxy(MessageFormatMessages.class, FormatTypes.MESSAGE_FORMAT);
+            KotonohaMessage.invalidate(MessageFormatMessages.class);
+            final MessageFormatMessages second = KotonohaMessage.createProxy(MessageFormatMessages.class, FormatTypes.MESSAGE_FORMAT);
+            KotonohaMessage.invalidateAll();
+            final MessageFormatMessages third = KotonohaMessage.createProxy(MessageFormatMessages.class, FormatTypes.MESSAGE_FORMAT);
+
+            assertNotSame(first, second);
+            assertNotSame(second, third);
+        }
+
+        @Test
+        @DisplayName("should only keep the most recently cached configurations")
+        void shouldEvictOldestConfiguration() {
+            final InvocationConfiguration oldest = reloadedConfiguration();
+            final MessageFormatMessages first = KotonohaMessage.createProxy(MessageFormatMessages.class, oldest);
+            for (int reload = 0; reload < MessageInstanceCache.MAX_CONFIGURATIONS; reload++) {
+                KotonohaMessage.createProxy(MessageFormatMessages.class, reloadedConfiguration());
+            }
+            final InvocationConfiguration latest = reloadedConfiguration();
+            final MessageFormatMessages cached = KotonohaMessage.createProxy(MessageFormatMessages.class, latest);
+
+            assertNotSame(first, KotonohaMessage.createProxy(MessageFormatMessages.class, oldest));
+            assertSame(cached, KotonohaMessage.createProxy(MessageFormatMessages.class, latest));
+        }
+
+        // A configuration rebuilt as on a reload, which is not equal to the previous ones
+        private static InvocationConfiguration reloadedConfiguration() {
+            final List<Method> invocations = new ArrayList<>();
+            return FormatTypes.MESSAGE_FORMAT.withInvocationListener((method, argumentNanos, resultNanos) -> invocations.add(method));
+        }
+
+        @Test
+        @DisplayName("should not cache failed validations")
+        void shouldNotCacheFailure() {
+            assertThrows(
+                    KotonohaValidationException.class,
+                    () -> KotonohaMessage.createProxy(MissingKeyMessages.class, FormatTypes.MESSAGE_FORMAT)
+            );
+            assertThrows(
+                    KotonohaValidationException.class,
+                    () -> KotonohaMessage.createProxy(MissingKeyMessages.class, FormatTypes.MESSAGE_FORMAT)
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Constant result caching")
+    final class ConstantResultCachingTest {
+
+        @Test
+        @DisplayName("should reuse the result of methods without parameters")
+        void shouldReuseConstantResult() {
+            final MessageFormatMessages messages = KotonohaMessage.createProxy(MessageFormatMessages.class, FormatTypes.MESSAGE_FORMAT);
+
+            assertSame(messages.noArguments(), messages.noArguments());
+        }
+
+        @Test
+        @DisplayName("should not reuse the result of methods with parameters")
+        void shouldNotReuseResultWithArguments() {
+            final MessageFormatMessages messages = KotonohaMessage.createProxy(MessageFormatMessages.class, FormatTypes.MESSAGE_FORMAT);
+
+            assertNotSame(messages.arguments("Steve", 3), messages.arguments("Steve", 3));
+        }
+
+        @Test
+        @DisplayName("should create a new result when caching is disabled")
+        void shouldNotReuseResultWhenDisabled() {
+            final MessageFormatMessages messages = KotonohaMessage.createProxy(
+                    MessageFormatMessages.class,
+                    FormatTypes.MESSAGE_FORMAT.withConstantResultCaching(false)
+            );
+
+            assertNotSame(messages.noArguments(), messages.noArguments());
+            assertEquals(messages.noArguments(), messages.noArguments());
+        }
+    }
+
+    @Nested
+    @DisplayName("Hidden class implementation")
+    final class HiddenClassImplementationTest {
+
+        private final MessageFormatMessages messages = KotonohaMessage.createProxy(
+                MessageFormatMessages.class,
+                FormatTypes.MESSAGE_FORMAT.withImplementationStrategy(ImplementationStrategy.HIDDEN_CLASS)
+        );
+
+        @Test
+        @DisplayName("should implement the interface with a hidden class")
+        void shouldUseHiddenClass() {
+            assertFalse(Proxy.isProxyClass(this.messages.getClass()));
+            assertTrue(this.messages.getClass().isHidden());
+        }
+
+        @Test
+        @DisplayName("should behave like the proxy")
+        void shouldMatchProxy() {
+            final MessageFormatMessages proxy = KotonohaMessage.createProxy(MessageFormatMessages.class, FormatTypes.MESSAGE_FORMAT);
+
+            assertEquals(proxy.noArguments(), this.messages.noArguments());
+            assertEquals(proxy.arguments("Steve", 3), this.messages.arguments("Steve", 3));
+            assertEquals(proxy.defaultMethod(), this.messages.defaultMethod());
+        }
+
+        @Test
+        @DisplayName("should reject null arguments")
+        void shouldRejectNullArgument() {
+            assertThrows(NullPointerException.class, () -> this.messages.arguments(null, 1));
+        }
+
+        @Test
+        @DisplayName("should transform the component into the return type")
+        void shouldTransformResult() {
+            final ComponentTransformer transformer = ComponentTransformer.builder()
+                    .register(String.class, PlainTextComponentSerializer.plainText()::serialize)
+                    .build();
+            final StringMessages stringMessages = KotonohaMessage.createProxy(
+                    StringMessages.class,
+                    FormatTypes.MESSAGE_FORMAT
+                            .withResultPolicy(ResultComponentTransformationPolicy.noOperation(transformer))
+                            .withImplementationStrategy(ImplementationStrategy.HIDDEN_CLASS)
+            );
+
+            assertTrue(stringMessages.getClass().isHidden());
+            assertEquals("test.string", stringMessages.string());
+        }
+
+        @Test
+        @DisplayName("should implement interfaces of other class loaders with their lookup")
+        void shouldUseCallerLookup() throws IOException, ReflectiveOperationException {
+            final InvocationConfiguration config = FormatTypes.MESSAGE_FORMAT.withImplementationStrategy(ImplementationStrategy.HIDDEN_CLASS);
+            try (IsolatingClassLoader classLoader = new IsolatingClassLoader()) {
+                final Class<?> interfaceType = classLoader.loadClass(IsolatedMessages.class.getName());
+                final Method lookupMethod = classLoader.loadClass(IsolatedLookup.class.getName()).getMethod("lookup");
+                final MethodHandles.Lookup lookup = (MethodHandles.Lookup) lookupMethod.invoke(null);
+
+                assertNotSame(IsolatedMessages.class, interfaceType);
+                assertThrows(KotonohaValidationException.class, () -> KotonohaMessage.createProxy(interfaceType, config));
+
+                final Object messages = KotonohaMessage.createProxy(interfaceType, config, lookup);
+                assertTrue(messages.getClass().isHidden());
+                assertSame(classLoader, messages.getClass().getClassLoader());
+                assertEquals(Component.translatable("test.isolated"), interfaceType.getMethod("isolated").invoke(messages));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Invocation plan")
+    final class InvocationPlanTest {
+
+        private static Method argumentsMethod() throws NoSuchMethodException {
+            return MessageFormatMessages.class.getMethod("arguments", String.class, int.class);
+        }
+
+        @Test
+        @DisplayName("should adapt arguments one by one like the arguments array")
+        void shouldAdaptDirectly() throws NoSuchMethodException {
+            final InvocationPlan plan = InvocationPlan.compile(argumentsMethod(), FormatTypes.MESSAGE_FORMAT);
+
+            assertTrue(plan.direct());
+            assertEquals(
+                    plan.invoke(new Object[] {"Steve", 3}),
+                    plan.invokeAdapted(new ComponentLike[] {plan.adapt(0, "Steve"), plan.adaptInt(1, 3)})
+            );
+            assertThrows(NullPointerException.class, () -> plan.adapt(0, null));
+        }
+
+        @Test
+        @DisplayName("should adapt primitive arguments with the specialized adapter")
+        void shouldUsePrimitiveAdapter() throws NoSuchMethodException {
+            final TranslationArgumentAdapter argumentAdapter = TranslationArgumentAdapter.standard().toBuilder()
+                    .intArgument(value -> TranslationArgument.numeric(value * 2))
+                    .build();
+            final InvocationPlan plan = InvocationPlan.compile(
+                    argumentsMethod(),
+                    FormatTypes.MESSAGE_FORMAT.withArgumentPolicy(TranslationArgumentAdaptationPolicy.messageFormat(argumentAdapter))
+            );
+
+            assertEquals(TranslationArgument.numeric(6), plan.adaptInt(1, 3));
+        }
+
+        @Test
+        @DisplayName("should not be direct when a policy reads the arguments")
+        void shouldNotBeDirectWithCustomPolicy() throws NoSuchMethodException {
+            final CustomTranslationKeyResolutionPolicy keyPolicy = new CustomTranslationKeyResolutionPolicy() {
+                @Override
+                public String resolveKey(final InvocationContext context) {
+                    return context.method().getName();
+                }
+
+                @Override
+                public void validate(final Method method) {
+                }
+            };
+            final InvocationPlan plan = InvocationPlan.compile(argumentsMethod(), FormatTypes.MESSAGE_FORMAT.withKeyPolicy(keyPolicy));
+
+            assertFalse(plan.direct());
+        }
+    }
+
+    @Nested
+    @DisplayName("Custom policies")
+    final class CustomPolicyTest {
+
+        @Test
+        @DisplayName("should pass the invocation context to custom policies")
+        void shouldPassInvocationContext() {
+            final CustomTranslationKeyResolutionPolicy keyPolicy = new CustomTranslationKeyResolutionPolicy() {
+                @Override
+                public String resolveKey(final InvocationContext context) {
+                    final InvocationArgument argument = context.invocationArguments()[0];
+                    return context.method().getName() + "." + argument.parameter().getType().getSimpleName() + "." + argument.value();
+                }
+
+                @Override
+                public void validate(final Method method) {
+                }
+            };
+            final MessageFormatMessages messages = KotonohaMessage.createProxy(
+                    MessageFormatMessages.class,
+                    FormatTypes.MESSAGE_FORMAT.withKeyPolicy(keyPolicy)
+            );
+
+            assertEquals("arguments.String.Steve", messages.arguments("Steve", 3).key());
+        }
+
+        @Test
+        @DisplayName("should share the invocation context between custom policies")
+        void shouldShareInvocationContext() {
+            final List<InvocationContext> contexts = new ArrayList<>();
+            final CustomTranslationKeyResolutionPolicy keyPolicy = new CustomTranslationKeyResolutionPolicy() {
+                @Override
+                public String resolveKey(final InvocationContext context) {
+                    contexts.add(context);
+                    return context.method().getName();
+                }
+
+                @Override
+                public void validate(final Method method) {
+                }
+            };
+            final CustomResultComponentTransformationPolicy resultPolicy = new CustomResultComponentTransformationPolicy() {
+                @Override
+                public Object transformComponent(final TranslatableComponent component, final InvocationContext context) {
+                    contexts.add(context);
+                    return component;
+                }
+
+                @Override
+                public void validate(final Method method) {
+                }
+            };
+            final MessageFormatMessages messages = KotonohaMessage.createProxy(
+                    MessageFormatMessages.class,
+                    FormatTypes.MESSAGE_FORMAT.withKeyPolicy(keyPolicy).withResultPolicy(resultPolicy)
+            );
+
+            messages.arguments("Steve", 3);
+
+            assertEquals(2, contexts.size());
+            assertSame(contexts.get(0), contexts.get(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Result transformation")
+    final class ResultTransformationTest {
+
+        @Test
+        @DisplayName("should transform the component into the return type")
+        void shouldTransformResult() {
+            final ComponentTransformer transformer = ComponentTransformer.builder()
+                    .register(String.class, PlainTextComponentSerializer.plainText()::serialize)
+                    .build();
+            final StringMessages messages = KotonohaMessage.createProxy(
+                    StringMessages.class,
+                    FormatTypes.MESSAGE_FORMAT.withResultPolicy(ResultComponentTransformationPolicy.noOperation(transformer))
+            );
+
+            assertEquals("test.string", messages.string());
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation")
+    final class ValidationTest {
+
+        @Test
+        @DisplayName("should reject methods without @Key")
+        void shouldRejectMissingKey() {
+            assertThrows(
+                    KotonohaValidationException.class,
+                    () -> KotonohaMessage.createProxy(MissingKeyMessages.class, FormatTypes.MESSAGE_FORMAT)
+            );
+        }
+
+        @Test
+        @DisplayName("should reject classes")
+        void shouldRejectClass() {
+            assertThrows(IllegalArgumentException.class, () -> KotonohaMessage.createProxy(Object.class, FormatTypes.MESSAGE_FORMAT));
+        }
+    }
+}
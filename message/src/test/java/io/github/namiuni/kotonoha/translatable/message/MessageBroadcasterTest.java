@@ -0,0 +1,128 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translatable.message;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import io.github.namiuni.kotonoha.translatable.message.utility.MessageBroadcaster;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.pointer.Pointers;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.translation.Translator;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@NullMarked
+@DisplayName("MessageBroadcaster tests")
+final class MessageBroadcasterTest {
+
+    @Test
+    @DisplayName("Should render once per locale")
+    void testRenderOncePerLocale() {
+        final CountingTranslator translator = new CountingTranslator();
+        final List<RecordingAudience> audiences = List.of(
+                new RecordingAudience(Locale.US),
+                new RecordingAudience(Locale.JAPAN),
+                new RecordingAudience(Locale.US),
+                new RecordingAudience(Locale.JAPAN),
+                new RecordingAudience(Locale.US)
+        );
+
+        MessageBroadcaster.of(translator).broadcast(audiences, Component.translatable("test.broadcast"));
+
+        assertEquals(2, translator.renders.get());
+        for (final RecordingAudience audience : audiences) {
+            assertEquals(List.of(Component.text(audience.locale.toLanguageTag())), audience.messages);
+        }
+        assertSame(audiences.get(0).messages.getFirst(), audiences.get(2).messages.getFirst());
+    }
+
+    @Test
+    @DisplayName("Should send the message untranslated to audiences without locale")
+    void testAudienceWithoutLocale() {
+        final CountingTranslator translator = new CountingTranslator();
+        final RecordingAudience audience = new RecordingAudience(null);
+        final TranslatableComponent message = Component.translatable("test.broadcast");
+
+        MessageBroadcaster.of(translator).broadcast(List.of(audience), message);
+
+        assertEquals(0, translator.renders.get());
+        assertEquals(List.of(message), audience.messages);
+    }
+
+    private static final class CountingTranslator implements Translator {
+
+        private final AtomicInteger renders = new AtomicInteger();
+
+        @Override
+        public Key name() {
+            return Key.key("kotonoha", "counting");
+        }
+
+        @Override
+        public @Nullable MessageFormat translate(final String key, final Locale locale) {
+            return null;
+        }
+
+        @Override
+        public Component translate(final TranslatableComponent component, final Locale locale) {
+            this.renders.incrementAndGet();
+            return Component.text(locale.toLanguageTag());
+        }
+    }
+
+    private static final class RecordingAudience implements Audience {
+
+        private final @Nullable Locale locale;
+        private final Pointers pointers;
+        private final List<Component> messages = new ArrayList<>();
+
+        private RecordingAudience(final @Nullable Locale locale) {
+            this.locale = locale;
+            this.pointers = locale == null
+                    ? Pointers.empty()
+                    : Pointers.builder().withStatic(Identity.LOCALE, locale).build();
+        }
+
+        @Override
+        public Pointers pointers() {
+            return this.pointers;
+        }
+
+        @Override
+        public void sendMessage(final Component message) {
+            this.messages.add(message);
+        }
+    }
+}
@@ -34,8 +34,16 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import io.github.namiuni.kotonoha.translatable.message.utility.TranslationArgumentAdapter;
 import io.leangen.geantyref.TypeToken;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleFunction;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
 import java.util.stream.Stream;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.TextComponent;
 import net.kyori.adventure.text.TranslationArgument;
 import org.jspecify.annotations.NullMarked;
 import org.junit.jupiter.api.DisplayName;
@@ -390,6 +398,123 @@ final class TranslationArgumentAdapterTest {
         }
     }
 
+    @Nested
+    @DisplayName("Subtype resolution")
+    final class SubtypeResolutionTest {
+
+        @Test
+        @DisplayName("should adapt subtypes with the adapter of a supertype")
+        void shouldAdaptSubtype() {
+            final TranslationArgumentAdapter adapter = TranslationArgumentAdapter.standard();
+            final TextComponent component = Component.text("test");
+
+            assertTrue(adapter.supports(TextComponent.class));
+            assertEquals(component, adapter.adapt(TextComponent.class, component).asComponent());
+            assertInstanceOf(AtomicInteger.class, adapter.adapt(AtomicInteger.class, new AtomicInteger(7)).value());
+        }
+
+        @Test
+        @DisplayName("should prefer the nearest supertype")
+        void shouldPreferNearestSupertype() {
+            final TranslationArgumentAdapter adapter = TranslationArgumentAdapter.builder()
+                    .argument(ComponentLike.class, _ -> TranslationArgument.numeric(1))
+                    .argument(Component.class, _ -> TranslationArgument.numeric(2))
+                    .build();
+
+            assertEquals(2, adapter.adapt(TextComponent.class, Component.text("test")).value());
+        }
+
+        @Test
+        @DisplayName("should prefer an exact registration")
+        void shouldPreferExactRegistration() {
+            final TranslationArgumentAdapter adapter = TranslationArgumentAdapter.builder()
+                    .argument(Component.class, _ -> TranslationArgument.numeric(1))
+                    .argument(TextComponent.class, _ -> TranslationArgument.numeric(2))
+                    .build();
+
+            assertEquals(2, adapter.adapt(TextComponent.class, Component.text("test")).value());
+            assertEquals(1, adapter.adapt(Component.class, Component.text("test")).value());
+        }
+
+        @Test
+        @DisplayName("should adapt parameterized types with the adapter of the raw type")
+        void shouldAdaptParameterizedTypeWithRawType() {
+            final TranslationArgumentAdapter adapter = TranslationArgumentAdapter.builder()
+                    .string(List.class, list -> "size " + list.size())
+                    .build();
+            final Type type = new TypeToken<ArrayList<String>>() { }.getType();
+
+            assertTrue(adapter.supports(type));
+            assertEquals(
+                    Component.text("size 2"),
+                    adapter.adapt(type, new ArrayList<>(List.of("a", "b"))).asComponent()
+            );
+        }
+
+        @Test
+        @DisplayName("should not resolve unrelated types")
+        void shouldNotResolveUnrelatedType() {
+            final TranslationArgumentAdapter adapter = TranslationArgumentAdapter.builder()
+                    .argument(Component.class, TranslationArgument::component)
+                    .build();
+
+            assertFalse(adapter.supports(String.class));
+            assertFalse(adapter.supports(int.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Primitive adapters")
+    final class PrimitiveAdapterTest {
+
+        @Test
+        @DisplayName("should return the registered primitive function")
+        void shouldReturnRegisteredFunction() {
+            final IntFunction<TranslationArgument> intFunction = value -> TranslationArgument.numeric(value * 2);
+            final LongFunction<TranslationArgument> longFunction = TranslationArgument::numeric;
+            final DoubleFunction<TranslationArgument> doubleFunction = TranslationArgument::numeric;
+            final TranslationArgumentAdapter adapter = TranslationArgumentAdapter.builder()
+                    .intArgument(intFunction)
+                    .longArgument(longFunction)
+                    .doubleArgument(doubleFunction)
+                    .build();
+
+            assertSame(intFunction, adapter.intAdapter());
+            assertSame(longFunction, adapter.longAdapter());
+            assertSame(doubleFunction, adapter.doubleAdapter());
+            assertEquals(42, adapter.adapt(int.class, 21).value());
+        }
+
+        @Test
+        @DisplayName("should wrap adapters registered as functions")
+        void shouldWrapFunction() {
+            final TranslationArgumentAdapter adapter = TranslationArgumentAdapter.builder()
+                    .argument(int.class, value -> TranslationArgument.numeric(value + 1))
+                    .build();
+
+            assertEquals(2, adapter.intAdapter().apply(1).value());
+        }
+
+        @Test
+        @DisplayName("should reuse small numeric arguments")
+        void shouldReuseSmallNumericArguments() {
+            final TranslationArgumentAdapter adapter = TranslationArgumentAdapter.standard();
+
+            assertSame(adapter.intAdapter().apply(5), adapter.intAdapter().apply(5));
+            assertSame(adapter.adapt(Integer.class, 1000), adapter.adapt(int.class, 1000));
+            assertSame(adapter.longAdapter().apply(-1L), adapter.adapt(Long.class, -1L));
+            assertEquals(TranslationArgument.numeric(100_000), adapter.intAdapter().apply(100_000));
+        }
+
+        @Test
+        @DisplayName("should throw when no adapter is registered")
+        void shouldThrowWithoutAdapter() {
+            final TranslationArgumentAdapter adapter = TranslationArgumentAdapter.builder().build();
+
+            assertThrows(IllegalArgumentException.class, adapter::intAdapter);
+        }
+    }
+
     @Nested
     @DisplayName("Null safety")
     @SuppressWarnings("DataFlowIssue")
@@ -13,4 +13,6 @@ dependencies {
     annotationProcessor(libs.google.auto.service)
 
     testImplementation(libs.google.compile.testing)
+    testImplementation(projects.kotonohaMessage)
+    testImplementation(projects.kotonohaTranslator)
 }
@@ -0,0 +1,404 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.resourcebundle.generator.processor;
+
+import io.github.namiuni.kotonoha.annotations.Key;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedSourceVersion;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/// An annotation processor that generates a concrete implementation for every interface
+/// declaring [Key] annotated methods.
+///
+/// For an interface `FooMessages` the processor writes `FooMessages_KotonohaImpl` into the same package
+/// (nested interfaces are flattened, e.g. `Outer_FooMessages_KotonohaImpl`). Each generated method calls
+/// the precompiled `InvocationPlan` of the corresponding interface method directly, adapting each argument
+/// with the adapter of its parameter so that primitives are not boxed when the policies allow it, and
+/// `KotonohaMessage.createProxy` instantiates the generated class instead of a
+/// [java.lang.reflect.Proxy] when the configuration uses the `GENERATED` implementation strategy.
+///
+/// Generation is skipped when `kotonoha-message` is not on the compile classpath, for
+/// interfaces that cannot be implemented statically (generic interfaces or methods,
+/// private interfaces), and when a type with the generated name already exists.
+/// Those interfaces keep using the reflective proxy.
+///
+/// @since 0.3.0
+@NullMarked
+@SupportedAnnotationTypes("io.github.namiuni.kotonoha.annotations.Key")
+@SupportedSourceVersion(SourceVersion.RELEASE_25)
+public final class MessageImplementationGeneratorProcessor extends AbstractProcessor {
+
+    static final String GENERATED_IMPLEMENTATION_SUFFIX = "_KotonohaImpl";
+
+    private static final String KOTONOHA_MESSAGE = "io.github.namiuni.kotonoha.translatable.message.KotonohaMessage";
+    private static final String INVOCATION_PLAN = "io.github.namiuni.kotonoha.translatable.message.InvocationPlan";
+    private static final String INVOCATION_CONFIGURATION = "io.github.namiuni.kotonoha.translatable.message.configuration.InvocationConfiguration";
+    private static final String COMPONENT_LIKE = "net.kyori.adventure.text.ComponentLike";
+
+    private @Nullable Filer filer;
+    private @Nullable Messager messager;
+    private @Nullable Elements elements;
+    private @Nullable Types types;
+
+    /**
+     * Creates a new {@code MessageImplementationGeneratorProcessor} instance.
+     *
+     * @since 0.3.0
+     */
+    public MessageImplementationGeneratorProcessor() {
+    }
+
+    @Override
+    public synchronized void init(final ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.filer = processingEnv.getFiler();
+        this.messager = processingEnv.getMessager();
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            return false;
+        }
+
+        // The generated code depends on kotonoha-message
+        if (Objects.requireNonNull(this.elements).getTypeElement(KOTONOHA_MESSAGE) == null) {
+            return false;
+        }
+
+        // LinkedHashSet preserves the declaration order and removes interfaces declaring several keys.
+        final Set<TypeElement> interfaces = new LinkedHashSet<>();
+        for (final Element element : roundEnv.getElementsAnnotatedWith(Key.class)) {
+            final Element enclosingElement = element.getEnclosingElement();
+            if (enclosingElement.getKind() == ElementKind.INTERFACE) {
+                interfaces.add((TypeElement) enclosingElement);
+            }
+        }
+
+        for (final TypeElement interfaceElement : interfaces) {
+            this.processInterface(interfaceElement);
+        }
+
+        return false;
+    }
+
+    private void processInterface(final TypeElement interfaceElement) {
+        final @Nullable String unsupportedReason = this.unsupportedReason(interfaceElement);
+        if (unsupportedReason != null) {
+            final String message = "Skipped generating an implementation of %s: %s";
+            Objects.requireNonNull(this.messager).printMessage(
+                    Diagnostic.Kind.NOTE,
+                    message.formatted(interfaceElement.getQualifiedName(), unsupportedReason),
+                    interfaceElement
+            );
+            return;
+        }
+
+        final PackageElement packageElement = Objects.requireNonNull(this.elements).getPackageOf(interfaceElement);
+        final String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        final String simpleName = generatedSimpleName(interfaceElement);
+        final String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        final List<ExecutableElement> methods = this.abstractMethods(interfaceElement);
+
+        // Never clash with a hand-written class
+        if (Objects.requireNonNull(this.elements).getTypeElement(qualifiedName) != null) {
+            final String message = "Skipped generating an implementation of %s: type %s already exists";
+            Objects.requireNonNull(this.messager).printMessage(
+                    Diagnostic.Kind.NOTE,
+                    message.formatted(interfaceElement.getQualifiedName(), qualifiedName),
+                    interfaceElement
+            );
+            return;
+        }
+
+        try (Writer writer = Objects.requireNonNull(this.filer).createSourceFile(qualifiedName, interfaceElement).openWriter()) {
+            writer.write(this.generateSource(packageName, simpleName, interfaceElement, methods));
+            Objects.requireNonNull(this.messager).printMessage(Diagnostic.Kind.NOTE, "Generated message implementation: " + qualifiedName);
+        } catch (final IOException exception) {
+            final String message = "Failed to write message implementation: %s - %s";
+            Objects.requireNonNull(this.messager).printMessage(Diagnostic.Kind.ERROR, message.formatted(qualifiedName, exception.getMessage()));
+        }
+    }
+
+    private @Nullable String unsupportedReason(final TypeElement interfaceElement) {
+        Element element = interfaceElement;
+        while (element instanceof TypeElement typeElement) {
+            if (typeElement.getModifiers().contains(Modifier.PRIVATE)) {
+                return "private types cannot be implemented";
+            }
+            element = typeElement.getEnclosingElement();
+        }
+
+        if (!interfaceElement.getTypeParameters().isEmpty()) {
+            return "generic interfaces are not supported";
+        }
+
+        for (final ExecutableElement method : this.abstractMethods(interfaceElement)) {
+            if (!method.getTypeParameters().isEmpty()) {
+                return "generic method '%s' is not supported".formatted(method.getSimpleName());
+            }
+        }
+
+        return null;
+    }
+
+    private List<ExecutableElement> abstractMethods(final TypeElement interfaceElement) {
+        final List<ExecutableElement> methods = new ArrayList<>();
+        for (final ExecutableElement method : ElementFilter.methodsIn(Objects.requireNonNull(this.elements).getAllMembers(interfaceElement))) {
+            if (!method.getModifiers().contains(Modifier.ABSTRACT)) {
+                continue;
+            }
+
+            // Methods of java.lang.Object redeclared in the interface are implemented by Object
+            if (this.isObjectMethod(method)) {
+                continue;
+            }
+
+            methods.add(method);
+        }
+        return methods;
+    }
+
+    private boolean isObjectMethod(final ExecutableElement method) {
+        final String name = method.getSimpleName().toString();
+        final List<? extends VariableElement> parameters = method.getParameters();
+        return switch (name) {
+            case "hashCode", "toString" -> parameters.isEmpty();
+            case "equals" -> parameters.size() == 1
+                    && "java.lang.Object".equals(this.typeName(Objects.requireNonNull(this.types).erasure(parameters.getFirst().asType())));
+            default -> false;
+        };
+    }
+
+    private static String generatedSimpleName(final TypeElement interfaceElement) {
+        final List<String> simpleNames = new ArrayList<>();
+        Element element = interfaceElement;
+        while (element instanceof TypeElement typeElement) {
+            simpleNames.addFirst(typeElement.getSimpleName().toString());
+            element = typeElement.getEnclosingElement();
+        }
+        return String.join("_", simpleNames) + GENERATED_IMPLEMENTATION_SUFFIX;
+    }
+
+    private String generateSource(
+            final String packageName,
+            final String simpleName,
+            final TypeElement interfaceElement,
+            final List<ExecutableElement> methods
+    ) {
+        final String interfaceName = interfaceElement.getQualifiedName().toString();
+        final StringBuilder builder = new StringBuilder();
+
+        builder.append("// Generated by MessageImplementationGeneratorProcessor\n");
+        if (!packageName.isEmpty()) {
+            builder.append("package ").append(packageName).append(";\n\n");
+        }
+
+        builder.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+        builder.append("public final class ").append(simpleName).append(" implements ").append(interfaceName).append(" {\n");
+
+        // Fields
+        for (int i = 0; i < methods.size(); i++) {
+            builder.append("\n    private final ").append(INVOCATION_PLAN).append(" plan").append(i).append(";");
+        }
+        builder.append("\n\n");
+
+        // Constructor
+        builder.append("    public ").append(simpleName).append("(final ").append(INVOCATION_CONFIGURATION).append(" config) {\n");
+        for (int i = 0; i < methods.size(); i++) {
+            final ExecutableElement method = methods.get(i);
+            final String parameterTypes = method.getParameters().stream()
+                    .map(parameter -> this.typeName(Objects.requireNonNull(this.types).erasure(parameter.asType())) + ".class")
+                    .collect(Collectors.joining(", "));
+            builder.append("        this.plan").append(i).append(" = ").append(INVOCATION_PLAN).append(".compile(")
+                    .append(interfaceName).append(".class, \"")
+                    .append(method.getSimpleName()).append("\", new java.lang.Class<?>[] {")
+                    .append(parameterTypes).append("}, config);\n");
+        }
+        builder.append("    }\n");
+
+        // Methods
+        for (int i = 0; i < methods.size(); i++) {
+            builder.append('\n');
+            this.appendMethod(builder, interfaceElement, methods.get(i), "this.plan" + i);
+        }
+
+        builder.append("}\n");
+        return builder.toString();
+    }
+
+    private void appendMethod(
+            final StringBuilder builder,
+            final TypeElement interfaceElement,
+            final ExecutableElement method,
+            final String plan
+    ) {
+        // Type arguments of generic super interfaces are substituted
+        final ExecutableType methodType = (ExecutableType) Objects.requireNonNull(this.types)
+                .asMemberOf((DeclaredType) interfaceElement.asType(), method);
+        final List<? extends VariableElement> parameters = method.getParameters();
+        final List<? extends TypeMirror> parameterTypes = methodType.getParameterTypes();
+        final TypeMirror returnType = methodType.getReturnType();
+
+        // Signature
+        builder.append("    @Override\n");
+        builder.append("    public ").append(this.typeName(returnType)).append(' ').append(method.getSimpleName()).append('(');
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+
+            final boolean varArgs = method.isVarArgs() && i == parameters.size() - 1;
+            final String parameterType = varArgs
+                    ? this.typeName(((ArrayType) parameterTypes.get(i)).getComponentType()) + "..."
+                    : this.typeName(parameterTypes.get(i));
+            builder.append("final ").append(parameterType).append(' ').append(parameters.get(i).getSimpleName());
+        }
+        builder.append(')');
+
+        final List<? extends TypeMirror> thrownTypes = methodType.getThrownTypes();
+        if (!thrownTypes.isEmpty()) {
+            builder.append(" throws ").append(thrownTypes.stream().map(this::typeName).collect(Collectors.joining(", ")));
+        }
+        builder.append(" {\n");
+
+        // Body
+        if (parameters.isEmpty()) {
+            this.appendReturn(builder, "        ", returnType, plan + ".invoke()");
+            builder.append("    }\n");
+            return;
+        }
+
+        // Adapt the arguments one by one, or box them when a policy reads the raw arguments
+        final List<String> adaptedArguments = new ArrayList<>();
+        for (int i = 0; i < parameters.size(); i++) {
+            final String name = parameters.get(i).getSimpleName().toString();
+            final String adaptMethod = switch (parameterTypes.get(i).getKind()) {
+                case INT -> "adaptInt";
+                case LONG -> "adaptLong";
+                case DOUBLE -> "adaptDouble";
+                default -> "adapt";
+            };
+            // Other primitives are boxed by the generic adapter
+            final String argument = adaptMethod.equals("adapt") && parameterTypes.get(i).getKind().isPrimitive()
+                    ? "(java.lang.Object) " + name
+                    : name;
+            adaptedArguments.add(plan + "." + adaptMethod + "(" + i + ", " + argument + ")");
+        }
+        final String arguments = parameters.stream()
+                .map(parameter -> parameter.getSimpleName().toString())
+                .collect(Collectors.joining(", "));
+
+        builder.append("        if (").append(plan).append(".direct()) {\n");
+        this.appendReturn(builder, "            ", returnType, plan + ".invokeAdapted(new " + COMPONENT_LIKE + "[] {"
+                + String.join(", ", adaptedArguments) + "})");
+        if (returnType.getKind() == TypeKind.VOID) {
+            builder.append("            return;\n");
+        }
+        builder.append("        }\n");
+        this.appendReturn(builder, "        ", returnType, plan + ".invoke(new java.lang.Object[] {" + arguments + "})");
+        builder.append("    }\n");
+    }
+
+    private void appendReturn(final StringBuilder builder, final String indent, final TypeMirror returnType, final String invocation) {
+        if (returnType.getKind() == TypeKind.VOID) {
+            builder.append(indent).append(invocation).append(";\n");
+        } else {
+            builder.append(indent).append("return (").append(this.castTypeName(returnType)).append(") ").append(invocation).append(";\n");
+        }
+    }
+
+    private String castTypeName(final TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            final TypeElement boxedType = Objects.requireNonNull(this.types).boxedClass((PrimitiveType) type);
+            return boxedType.getQualifiedName().toString();
+        }
+        return this.typeName(type);
+    }
+
+    // TypeMirror#toString() includes type annotations, which are not valid in every position
+    private String typeName(final TypeMirror type) {
+        return switch (type.getKind()) {
+            case BOOLEAN, BYTE, SHORT, INT, LONG, CHAR, FLOAT, DOUBLE, VOID -> type.getKind().name().toLowerCase(Locale.ROOT);
+            case ARRAY -> this.typeName(((ArrayType) type).getComponentType()) + "[]";
+            case WILDCARD -> {
+                final WildcardType wildcardType = (WildcardType) type;
+                if (wildcardType.getExtendsBound() != null) {
+                    yield "? extends " + this.typeName(wildcardType.getExtendsBound());
+                }
+                if (wildcardType.getSuperBound() != null) {
+                    yield "? super " + this.typeName(wildcardType.getSuperBound());
+                }
+                yield "?";
+            }
+            case DECLARED -> {
+                final DeclaredType declaredType = (DeclaredType) type;
+                final String name = ((TypeElement) declaredType.asElement()).getQualifiedName().toString();
+                if (declaredType.getTypeArguments().isEmpty()) {
+                    yield name;
+                }
+                yield declaredType.getTypeArguments().stream()
+                        .map(this::typeName)
+                        .collect(Collectors.joining(", ", name + "<", ">"));
+            }
+            default -> type.toString();
+        };
+    }
+}
@@ -0,0 +1,350 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.resourcebundle.generator.processor;
+
+import io.github.namiuni.kotonoha.annotations.Key;
+import io.github.namiuni.kotonoha.annotations.Locales;
+import io.github.namiuni.kotonoha.annotations.Message;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedSourceVersion;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/// An annotation processor that generates the registration of every interface declaring
+/// [Key] annotated methods.
+///
+/// For an interface `FooMessages` the processor writes `FooMessages_KotonohaRegistration` into
+/// the same package (nested interfaces are flattened, e.g. `Outer_FooMessages_KotonohaRegistration`).
+/// The generated class holds the key, locale and content of every [Message] of the interface as
+/// constants, and `KotonohaTranslationStore.registerInterface` reads them instead of scanning the
+/// methods of the interface through reflection when it is present.
+///
+/// Generation is skipped for interfaces whose methods are not all annotated with both [Key] and
+/// [Message]. Those interfaces keep being registered through reflection, which reports the
+/// missing annotations.
+///
+/// Every processed interface is also listed in the `META-INF/kotonoha/index` resource, one line
+/// per interface holding its binary name, its key count and the names of its [Locales], so that
+/// `KotonohaTranslationStore.registerIndexed` can register all of them without scanning the
+/// class path. Nothing is generated when `kotonoha-translator` is not on the compile classpath.
+///
+/// @since 0.3.0
+@NullMarked
+@SupportedAnnotationTypes("io.github.namiuni.kotonoha.annotations.Key")
+@SupportedSourceVersion(SourceVersion.RELEASE_25)
+public final class MessageRegistrationGeneratorProcessor extends AbstractProcessor {
+
+    static final String GENERATED_REGISTRATION_SUFFIX = "_KotonohaRegistration";
+    static final String INDEX_RESOURCE = "META-INF/kotonoha/index";
+
+    private static final String KOTONOHA_TRANSLATION_STORE = "io.github.namiuni.kotonoha.translator.KotonohaTranslationStore";
+    // Keeps every static initializer method well below the 64 KiB bytecode limit
+    private static final int TRANSLATIONS_PER_INITIALIZER = 1000;
+
+    private @Nullable Filer filer;
+    private @Nullable Messager messager;
+    private @Nullable Elements elements;
+    private @Nullable Types types;
+    // Collected over all rounds, as the index can only be written once
+    private final List<IndexedInterface> indexedInterfaces = new ArrayList<>();
+
+    /**
+     * Creates a new {@code MessageRegistrationGeneratorProcessor} instance.
+     *
+     * @since 0.3.0
+     */
+    public MessageRegistrationGeneratorProcessor() {
+    }
+
+    @Override
+    public synchronized void init(final ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.filer = processingEnv.getFiler();
+        this.messager = processingEnv.getMessager();
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            if (!this.indexedInterfaces.isEmpty()) {
+                this.writeIndex();
+            }
+            return false;
+        }
+
+        // The generated registration is only read by kotonoha-translator
+        if (Objects.requireNonNull(this.elements).getTypeElement(KOTONOHA_TRANSLATION_STORE) == null) {
+            return false;
+        }
+
+        // LinkedHashSet preserves the declaration order and removes interfaces declaring several keys.
+        final Set<TypeElement> interfaces = new LinkedHashSet<>();
+        for (final Element element : roundEnv.getElementsAnnotatedWith(Key.class)) {
+            final Element enclosingElement = element.getEnclosingElement();
+            if (enclosingElement.getKind() == ElementKind.INTERFACE) {
+                interfaces.add((TypeElement) enclosingElement);
+            }
+        }
+
+        for (final TypeElement interfaceElement : interfaces) {
+            this.processInterface(interfaceElement);
+        }
+
+        return false;
+    }
+
+    private void processInterface(final TypeElement interfaceElement) {
+        final List<ExecutableElement> methods = this.messageMethods(interfaceElement);
+        final List<Translation> translations = new ArrayList<>();
+        final Set<String> keys = new LinkedHashSet<>();
+        final Set<Locales> locales = new LinkedHashSet<>();
+        @Nullable ExecutableElement unsupportedMethod = null;
+        for (final ExecutableElement method : methods) {
+            final @Nullable Key keyAnnotation = method.getAnnotation(Key.class);
+            final Message[] messageAnnotations = method.getAnnotationsByType(Message.class);
+            if (keyAnnotation == null || messageAnnotations.length == 0) {
+                if (unsupportedMethod == null) {
+                    unsupportedMethod = method;
+                }
+                continue;
+            }
+
+            keys.add(keyAnnotation.value());
+            for (final Message messageAnnotation : messageAnnotations) {
+                locales.add(messageAnnotation.locale());
+                translations.add(new Translation(keyAnnotation.value(), messageAnnotation.locale().name(), messageAnnotation.content()));
+            }
+        }
+
+        // Interfaces without a registration are still indexed, registering them reports the missing annotations
+        final String binaryName = Objects.requireNonNull(this.elements).getBinaryName(interfaceElement).toString();
+        this.indexedInterfaces.add(new IndexedInterface(binaryName, keys.size(), List.copyOf(locales)));
+
+        if (unsupportedMethod != null) {
+            final String message = "Skipped generating the registration of %s: method '%s' is missing @%s";
+            final String annotationName = unsupportedMethod.getAnnotation(Key.class) == null
+                    ? Key.class.getSimpleName()
+                    : Message.class.getSimpleName();
+            Objects.requireNonNull(this.messager).printMessage(
+                    Diagnostic.Kind.NOTE,
+                    message.formatted(interfaceElement.getQualifiedName(), unsupportedMethod.getSimpleName(), annotationName),
+                    interfaceElement
+            );
+            return;
+        }
+
+        final PackageElement packageElement = Objects.requireNonNull(this.elements).getPackageOf(interfaceElement);
+        final String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        final String simpleName = generatedSimpleName(interfaceElement);
+        final String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+        try (Writer writer = Objects.requireNonNull(this.filer).createSourceFile(qualifiedName, interfaceElement).openWriter()) {
+            writer.write(generateSource(packageName, simpleName, methods.size(), translations));
+            Objects.requireNonNull(this.messager).printMessage(Diagnostic.Kind.NOTE, "Generated message registration: " + qualifiedName);
+        } catch (final IOException exception) {
+            final String message = "Failed to write message registration: %s - %s";
+            Objects.requireNonNull(this.messager).printMessage(Diagnostic.Kind.ERROR, message.formatted(qualifiedName, exception.getMessage()));
+        }
+    }
+
+    private void writeIndex() {
+        try (Writer writer = Objects.requireNonNull(this.filer).createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_RESOURCE).openWriter()) {
+            writer.write("# Generated by MessageRegistrationGeneratorProcessor\n");
+            writer.write("# <interface binary name> <key count> <locales>\n");
+            for (final IndexedInterface indexedInterface : this.indexedInterfaces) {
+                final String locales = indexedInterface.locales().stream()
+                        .map(Locales::name)
+                        .collect(Collectors.joining(","));
+                writer.write(indexedInterface.binaryName() + " " + indexedInterface.keyCount() + " " + locales + "\n");
+            }
+            Objects.requireNonNull(this.messager).printMessage(Diagnostic.Kind.NOTE, "Generated message interface index: " + INDEX_RESOURCE);
+        } catch (final IOException exception) {
+            final String message = "Failed to write message interface index: %s - %s";
+            Objects.requireNonNull(this.messager).printMessage(Diagnostic.Kind.ERROR, message.formatted(INDEX_RESOURCE, exception.getMessage()));
+        }
+    }
+
+    // The methods registered by reflection: the public methods of the interface, except default methods, the static
+    // methods of super interfaces and the methods of java.lang.Object
+    private List<ExecutableElement> messageMethods(final TypeElement interfaceElement) {
+        final List<ExecutableElement> methods = new ArrayList<>();
+        for (final ExecutableElement method : ElementFilter.methodsIn(Objects.requireNonNull(this.elements).getAllMembers(interfaceElement))) {
+            final Set<Modifier> modifiers = method.getModifiers();
+            if (method.isDefault() || modifiers.contains(Modifier.PRIVATE)) {
+                continue;
+            }
+            if (modifiers.contains(Modifier.STATIC)) {
+                // Static methods are not inherited from super interfaces
+                if (!method.getEnclosingElement().equals(interfaceElement)) {
+                    continue;
+                }
+            } else if (!modifiers.contains(Modifier.ABSTRACT)) {
+                // Implemented by java.lang.Object
+                continue;
+            }
+
+            // Methods of java.lang.Object redeclared in the interface are implemented by Object
+            if (this.isObjectMethod(method)) {
+                continue;
+            }
+
+            methods.add(method);
+        }
+        return methods;
+    }
+
+    private boolean isObjectMethod(final ExecutableElement method) {
+        final String name = method.getSimpleName().toString();
+        final List<? extends VariableElement> parameters = method.getParameters();
+        return switch (name) {
+            case "hashCode", "toString" -> parameters.isEmpty();
+            case "equals" -> parameters.size() == 1 && this.isObject(parameters.getFirst());
+            default -> false;
+        };
+    }
+
+    private boolean isObject(final VariableElement parameter) {
+        final Element element = Objects.requireNonNull(this.types).asElement(this.types.erasure(parameter.asType()));
+        return element instanceof TypeElement typeElement && typeElement.getQualifiedName().contentEquals("java.lang.Object");
+    }
+
+    private static String generatedSimpleName(final TypeElement interfaceElement) {
+        final List<String> simpleNames = new ArrayList<>();
+        Element element = interfaceElement;
+        while (element instanceof TypeElement typeElement) {
+            simpleNames.addFirst(typeElement.getSimpleName().toString());
+            element = typeElement.getEnclosingElement();
+        }
+        return String.join("_", simpleNames) + GENERATED_REGISTRATION_SUFFIX;
+    }
+
+    private static String generateSource(
+            final String packageName,
+            final String simpleName,
+            final int methodCount,
+            final List<Translation> translations
+    ) {
+        final StringBuilder builder = new StringBuilder();
+
+        builder.append("// Generated by MessageRegistrationGeneratorProcessor\n");
+        if (!packageName.isEmpty()) {
+            builder.append("package ").append(packageName).append(";\n\n");
+        }
+
+        builder.append("public final class ").append(simpleName).append(" {\n\n");
+
+        // Constants
+        builder.append("    public static final int METHOD_COUNT = ").append(methodCount).append(";\n");
+        for (final String array : List.of("KEYS", "LOCALES", "CONTENTS")) {
+            builder.append("    public static final java.lang.String[] ").append(array)
+                    .append(" = new java.lang.String[").append(translations.size()).append("];\n");
+        }
+
+        // Static initializer
+        final int initializerCount = (translations.size() + TRANSLATIONS_PER_INITIALIZER - 1) / TRANSLATIONS_PER_INITIALIZER;
+        builder.append("\n    static {\n");
+        for (int initializer = 0; initializer < initializerCount; initializer++) {
+            builder.append("        initialize").append(initializer).append("();\n");
+        }
+        builder.append("    }\n\n");
+
+        // Constructor
+        builder.append("    private ").append(simpleName).append("() {\n");
+        builder.append("    }\n");
+
+        // Initializers
+        for (int initializer = 0; initializer < initializerCount; initializer++) {
+            builder.append("\n    private static void initialize").append(initializer).append("() {\n");
+            final int end = Math.min(translations.size(), (initializer + 1) * TRANSLATIONS_PER_INITIALIZER);
+            for (int index = initializer * TRANSLATIONS_PER_INITIALIZER; index < end; index++) {
+                final Translation translation = translations.get(index);
+                builder.append("        KEYS[").append(index).append("] = ").append(stringLiteral(translation.key())).append(";\n");
+                builder.append("        LOCALES[").append(index).append("] = ").append(stringLiteral(translation.locale())).append(";\n");
+                builder.append("        CONTENTS[").append(index).append("] = ").append(stringLiteral(translation.content())).append(";\n");
+            }
+            builder.append("    }\n");
+        }
+
+        builder.append("}\n");
+        return builder.toString();
+    }
+
+    // Non-ASCII characters are escaped so that the source does not depend on the encoding of the filer.
+    // Control characters use octal escapes, as unicode escapes of line terminators would end the literal.
+    private static String stringLiteral(final String value) {
+        final StringBuilder builder = new StringBuilder(value.length() + 2);
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char ch = value.charAt(i);
+            switch (ch) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                default -> {
+                    if (ch < 0x20 || ch == 0x7F) {
+                        builder.append("\\%03o".formatted((int) ch));
+                    } else if (ch > 0x7F) {
+                        builder.append("\\u%04x".formatted((int) ch));
+                    } else {
+                        builder.append(ch);
+                    }
+                }
+            }
+        }
+        return builder.append('"').toString();
+    }
+
+    private record Translation(String key, String locale, String content) {
+    }
+
+    private record IndexedInterface(String binaryName, int keyCount, List<Locales> locales) {
+    }
+}
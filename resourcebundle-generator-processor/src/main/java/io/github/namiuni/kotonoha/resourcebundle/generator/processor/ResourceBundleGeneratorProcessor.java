@@ -28,9 +28,13 @@ import io.github.namiuni.kotonoha.annotations.Locales;
 import io.github.namiuni.kotonoha.annotations.Message;
 import io.github.namiuni.kotonoha.annotations.Messages;
 import io.github.namiuni.kotonoha.annotations.ResourceBundle;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -58,7 +62,9 @@ import org.jspecify.annotations.Nullable;
 /// This processor scans methods within annotated interfaces for [Key], [ResourceBundle], [Message],
 /// [Messages] annotations
 /// to construct translation keys and messages. It then writes these into standard
-/// `.properties` files, grouped by locale.
+/// `.properties` files, grouped by locale, and into a single binary `.kotonoha` bundle
+/// holding every locale, which translation stores can register from the class path instead of parsing
+/// the properties files.
 ///
 /// Keys in the generated files are written in the same order as the method declarations
 /// in the source interface, because [javax.lang.model.element.TypeElement#getEnclosedElements()]
@@ -75,6 +81,9 @@ import org.jspecify.annotations.Nullable;
 @SupportedSourceVersion(SourceVersion.RELEASE_25)
 public final class ResourceBundleGeneratorProcessor extends AbstractProcessor {
 
+    private static final int BINARY_BUNDLE_MAGIC = 0x4B544E48;
+    private static final int BINARY_BUNDLE_VERSION = 1;
+
     private @Nullable Filer filer;
     private @Nullable Messager messager;
 
@@ -110,7 +119,8 @@ public final class ResourceBundleGeneratorProcessor extends AbstractProcessor {
             this.processResourceBundleInterface((TypeElement) element);
         }
 
-        return true;
+        // Don't claim the annotations, MessageImplementationGeneratorProcessor also processes them.
+        return false;
     }
 
     private void processResourceBundleInterface(final TypeElement typeElement) {
@@ -125,7 +135,7 @@ public final class ResourceBundleGeneratorProcessor extends AbstractProcessor {
         // The inner LinkedHashMap preserves key insertion order, which corresponds
         // to method declaration order because getEnclosedElements() is ordered by
         // source position per the javax.lang.model specification.
-        final Map<String, Map<String, String>> localeEntries = new LinkedHashMap<>();
+        final Map<Locales, Map<String, String>> localeEntries = new LinkedHashMap<>();
 
         for (final Element enclosedElement : typeElement.getEnclosedElements()) {
             if (enclosedElement.getKind() == ElementKind.METHOD) {
@@ -134,11 +144,12 @@ public final class ResourceBundleGeneratorProcessor extends AbstractProcessor {
         }
 
         this.writePropertiesFiles(baseName, localeEntries);
+        this.writeBinaryBundle(baseName, localeEntries);
     }
 
     private void processMethod(
             final ExecutableElement method,
-            final Map<String, Map<String, String>> localeEntries
+            final Map<Locales, Map<String, String>> localeEntries
     ) {
         if (method.isDefault() || method.getModifiers().contains(Modifier.STATIC)) {
             return;
@@ -155,8 +166,7 @@ public final class ResourceBundleGeneratorProcessor extends AbstractProcessor {
         final Message[] messageAnnotations = this.getMessageAnnotations(method);
 
         for (final Message messageAnnotation : messageAnnotations) {
-            final String localeKey = this.getLocaleKey(messageAnnotation.locale());
-            localeEntries.computeIfAbsent(localeKey, _ -> new LinkedHashMap<>())
+            localeEntries.computeIfAbsent(messageAnnotation.locale(), _ -> new LinkedHashMap<>())
                     .put(key, messageAnnotation.content());
         }
     }
@@ -184,10 +194,10 @@ public final class ResourceBundleGeneratorProcessor extends AbstractProcessor {
 
     private void writePropertiesFiles(
             final String baseName,
-            final Map<String, Map<String, String>> localeEntries
+            final Map<Locales, Map<String, String>> localeEntries
     ) {
-        for (final Map.Entry<String, Map<String, String>> entry : localeEntries.entrySet()) {
-            final String localeKey = entry.getKey();
+        for (final Map.Entry<Locales, Map<String, String>> entry : localeEntries.entrySet()) {
+            final String localeKey = this.getLocaleKey(entry.getKey());
             final Map<String, String> entries = entry.getValue();
             final String fileName = baseName + localeKey + ".properties";
 
@@ -207,6 +217,87 @@ public final class ResourceBundleGeneratorProcessor extends AbstractProcessor {
         }
     }
 
+    // The layout is read by BinaryTranslationBundle in the translator module.
+    // All integers are big-endian, and strings are UTF-8 without terminator:
+    //
+    //   int  magic ("KTNH"), int version
+    //   int  locale count, int key count, int string count
+    //   int  string index of every locale language tag
+    //   int  string index of every key, sorted by key
+    //   int  string index of the message of every key and locale, by key then locale, or -1 if there is none
+    //   int  byte offset of every string relative to the string data, then int byte length of every string
+    //   byte string data
+    private void writeBinaryBundle(
+            final String baseName,
+            final Map<Locales, Map<String, String>> localeEntries
+    ) {
+        final List<Locales> locales = List.copyOf(localeEntries.keySet());
+        final List<String> keys = localeEntries.values().stream()
+                .flatMap(entries -> entries.keySet().stream())
+                .distinct()
+                .sorted()
+                .toList();
+
+        // Identical strings, such as messages shared by several locales, are stored once
+        final Map<String, Integer> strings = new LinkedHashMap<>();
+        final int[] localeIndexes = new int[locales.size()];
+        for (int locale = 0; locale < locales.size(); locale++) {
+            localeIndexes[locale] = stringIndex(strings, locales.get(locale).asLocale().toLanguageTag());
+        }
+        final int[] keyIndexes = new int[keys.size()];
+        final int[] messageIndexes = new int[keys.size() * locales.size()];
+        for (int key = 0; key < keys.size(); key++) {
+            keyIndexes[key] = stringIndex(strings, keys.get(key));
+            for (int locale = 0; locale < locales.size(); locale++) {
+                final @Nullable String message = localeEntries.get(locales.get(locale)).get(keys.get(key));
+                messageIndexes[key * locales.size() + locale] = message == null ? -1 : stringIndex(strings, message);
+            }
+        }
+
+        final String fileName = baseName + ".kotonoha";
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+                Objects.requireNonNull(this.filer).createResource(StandardLocation.CLASS_OUTPUT, "", fileName).openOutputStream()
+        ))) {
+            output.writeInt(BINARY_BUNDLE_MAGIC);
+            output.writeInt(BINARY_BUNDLE_VERSION);
+            output.writeInt(locales.size());
+            output.writeInt(keys.size());
+            output.writeInt(strings.size());
+            for (final int index : localeIndexes) {
+                output.writeInt(index);
+            }
+            for (final int index : keyIndexes) {
+                output.writeInt(index);
+            }
+            for (final int index : messageIndexes) {
+                output.writeInt(index);
+            }
+
+            final List<byte[]> encodedStrings = strings.keySet().stream()
+                    .map(string -> string.getBytes(StandardCharsets.UTF_8))
+                    .toList();
+            int offset = 0;
+            for (final byte[] encodedString : encodedStrings) {
+                output.writeInt(offset);
+                offset += encodedString.length;
+            }
+            for (final byte[] encodedString : encodedStrings) {
+                output.writeInt(encodedString.length);
+            }
+            for (final byte[] encodedString : encodedStrings) {
+                output.write(encodedString);
+            }
+            Objects.requireNonNull(this.messager).printMessage(Diagnostic.Kind.NOTE, "Generated binary translation bundle: " + fileName);
+        } catch (final IOException exception) {
+            final String message = "Failed to write binary translation bundle: %s - %s";
+            Objects.requireNonNull(this.messager).printMessage(Diagnostic.Kind.ERROR, message.formatted(fileName, exception.getMessage()));
+        }
+    }
+
+    private static int stringIndex(final Map<String, Integer> strings, final String string) {
+        return strings.computeIfAbsent(string, _ -> strings.size());
+    }
+
     private static String escapeKey(final String key) {
         return escape(key, true);
     }
@@ -1,4 +1,5 @@
 /**
- * Annotation processors that validate annotations and generate supporting resource bundle at compile time.
+ * Annotation processors that validate annotations and generate supporting resource bundles
+ * and message implementations at compile time.
  */
 package io.github.namiuni.kotonoha.resourcebundle.generator.processor;
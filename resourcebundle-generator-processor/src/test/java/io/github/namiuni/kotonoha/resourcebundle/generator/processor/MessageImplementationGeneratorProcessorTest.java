@@ -0,0 +1,200 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.resourcebundle.generator.processor;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static com.google.testing.compile.Compiler.javac;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.JavaFileObjects;
+import java.io.IOException;
+import java.util.Set;
+import javax.tools.JavaFileObject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("MessageImplementationGeneratorProcessor tests")
+class MessageImplementationGeneratorProcessorTest {
+
+    private static final String TEST_PACKAGE = "test";
+
+    @Nested
+    @DisplayName("Basic functionality tests")
+    class BasicFunctionalityTests {
+
+        @Test
+        @DisplayName("Verify that supported annotation types are correct")
+        void testGetSupportedAnnotationTypes() {
+            final MessageImplementationGeneratorProcessor processor = new MessageImplementationGeneratorProcessor();
+            final Set<String> supportedTypes = processor.getSupportedAnnotationTypes();
+
+            assertTrue(supportedTypes.contains("io.github.namiuni.kotonoha.annotations.Key"));
+            assertEquals(1, supportedTypes.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Generation tests")
+    class GenerationTests {
+
+        @Test
+        @DisplayName("Verify that an implementation is generated for a message interface")
+        void testGenerateImplementation() throws IOException {
+            final JavaFileObject testInterface = JavaFileObjects.forSourceString(
+                    TEST_PACKAGE + ".TestMessages",
+                    """
+                            package test;
+                            
+                            import io.github.namiuni.kotonoha.annotations.Key;
+                            import java.util.List;
+                            import net.kyori.adventure.text.Component;
+                            
+                            public interface TestMessages {
+                            
+                                @Key("test.no.arguments")
+                                Component noArguments();
+                            
+                                @Key("test.arguments")
+                                Component arguments(String name, int count, List<String> values);
+                            
+                                @Key("test.varargs")
+                                void varargs(String... names);
+                            
+                                default Component defaultMethod() {
+                                    return Component.empty();
+                                }
+                            }
+                            """
+            );
+
+            final Compilation compilation = javac()
+                    .withProcessors(new MessageImplementationGeneratorProcessor())
+                    .compile(testInterface);
+
+            assertThat(compilation).succeeded();
+            assertThat(compilation).generatedSourceFile(TEST_PACKAGE + ".TestMessages_KotonohaImpl");
+            assertThat(compilation).hadNoteContaining("Generated message implementation: test.TestMessages_KotonohaImpl");
+
+            final String source = compilation.generatedSourceFile(TEST_PACKAGE + ".TestMessages_KotonohaImpl")
+                    .orElseThrow()
+                    .getCharContent(false)
+                    .toString();
+            assertTrue(source.contains("this.plan1.adaptInt(1, count)"));
+            assertTrue(source.contains("this.plan1.invokeAdapted("));
+            assertTrue(source.contains("this.plan1.invoke(new java.lang.Object[] {name, count, values})"));
+        }
+
+        @Test
+        @DisplayName("Verify that nested interfaces are flattened into the generated name")
+        void testGenerateNestedImplementation() {
+            final JavaFileObject testInterface = JavaFileObjects.forSourceString(
+                    TEST_PACKAGE + ".Outer",
+                    """
+                            package test;
+                            
+                            import io.github.namiuni.kotonoha.annotations.Key;
+                            import net.kyori.adventure.text.Component;
+                            
+                            public final class Outer {
+                            
+                                public interface NestedMessages {
+                                    @Key("test.nested")
+                                    Component nested();
+                                }
+                            }
+                            """
+            );
+
+            final Compilation compilation = javac()
+                    .withProcessors(new MessageImplementationGeneratorProcessor())
+                    .compile(testInterface);
+
+            assertThat(compilation).succeeded();
+            assertThat(compilation).generatedSourceFile(TEST_PACKAGE + ".Outer_NestedMessages_KotonohaImpl");
+        }
+
+        @Test
+        @DisplayName("Verify that an existing type with the generated name is not overwritten")
+        void testSkipExistingType() {
+            final JavaFileObject testInterface = JavaFileObjects.forSourceString(
+                    TEST_PACKAGE + ".ExistingMessages",
+                    """
+                            package test;
+                            
+                            import io.github.namiuni.kotonoha.annotations.Key;
+                            import net.kyori.adventure.text.Component;
+                            
+                            public interface ExistingMessages {
+                                @Key("test.existing")
+                                Component existing();
+                            }
+                            """
+            );
+            final JavaFileObject existingType = JavaFileObjects.forSourceString(
+                    TEST_PACKAGE + ".ExistingMessages_KotonohaImpl",
+                    """
+                            package test;
+                            
+                            public final class ExistingMessages_KotonohaImpl {
+                            }
+                            """
+            );
+
+            final Compilation compilation = javac()
+                    .withProcessors(new MessageImplementationGeneratorProcessor())
+                    .compile(testInterface, existingType);
+
+            assertThat(compilation).succeeded();
+            assertThat(compilation).hadNoteContaining("Skipped generating an implementation of test.ExistingMessages");
+        }
+
+        @Test
+        @DisplayName("Verify that generic methods are skipped")
+        void testSkipGenericMethod() {
+            final JavaFileObject testInterface = JavaFileObjects.forSourceString(
+                    TEST_PACKAGE + ".GenericMessages",
+                    """
+                            package test;
+                            
+                            import io.github.namiuni.kotonoha.annotations.Key;
+                            import net.kyori.adventure.text.Component;
+                            
+                            public interface GenericMessages {
+                                @Key("test.generic")
+                                <T> Component generic(T value);
+                            }
+                            """
+            );
+
+            final Compilation compilation = javac()
+                    .withProcessors(new MessageImplementationGeneratorProcessor())
+                    .compile(testInterface);
+
+            assertThat(compilation).succeeded();
+            assertThat(compilation).hadNoteContaining("Skipped generating an implementation of test.GenericMessages");
+        }
+    }
+}
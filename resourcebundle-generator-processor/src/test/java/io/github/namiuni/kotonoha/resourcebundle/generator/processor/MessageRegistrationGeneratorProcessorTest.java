@@ -0,0 +1,211 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.resourcebundle.generator.processor;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static com.google.testing.compile.Compiler.javac;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.JavaFileObjects;
+import java.io.IOException;
+import java.util.Set;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("MessageRegistrationGeneratorProcessor tests")
+class MessageRegistrationGeneratorProcessorTest {
+
+    private static final String TEST_PACKAGE = "test";
+
+    @Nested
+    @DisplayName("Basic functionality tests")
+    class BasicFunctionalityTests {
+
+        @Test
+        @DisplayName("Verify that supported annotation types are correct")
+        void testGetSupportedAnnotationTypes() {
+            final MessageRegistrationGeneratorProcessor processor = new MessageRegistrationGeneratorProcessor();
+            final Set<String> supportedTypes = processor.getSupportedAnnotationTypes();
+
+            assertTrue(supportedTypes.contains("io.github.namiuni.kotonoha.annotations.Key"));
+            assertEquals(1, supportedTypes.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Generation tests")
+    class GenerationTests {
+
+        @Test
+        @DisplayName("Verify that a registration is generated for a message interface")
+        void testGenerateRegistration() throws IOException {
+            final JavaFileObject testInterface = JavaFileObjects.forSourceString(
+                    TEST_PACKAGE + ".TestMessages",
+                    """
+                            package test;
+                            
+                            import io.github.namiuni.kotonoha.annotations.Key;
+                            import io.github.namiuni.kotonoha.annotations.Locales;
+                            import io.github.namiuni.kotonoha.annotations.Message;
+                            
+                            public interface TestMessages {
+                            
+                                @Key("test.hello")
+                                @Message(locale = Locales.EN_US, content = "Hello, \\"{0}\\"!")
+                                @Message(locale = Locales.JA_JP, content = "こんにちは、{0}！")
+                                void hello(String name);
+                            
+                                @Override
+                                String toString();
+                            
+                                default void defaultMethod() {
+                                }
+                            }
+                            """
+            );
+
+            final Compilation compilation = javac()
+                    .withProcessors(new MessageRegistrationGeneratorProcessor())
+                    .compile(testInterface);
+
+            assertThat(compilation).succeeded();
+            assertThat(compilation).hadNoteContaining("Generated message registration: test.TestMessages_KotonohaRegistration");
+
+            final String source = compilation.generatedSourceFile(TEST_PACKAGE + ".TestMessages_KotonohaRegistration")
+                    .orElseThrow()
+                    .getCharContent(false)
+                    .toString();
+            assertTrue(source.contains("METHOD_COUNT = 1;"));
+            assertTrue(source.contains("KEYS[1] = \"test.hello\";"));
+            assertTrue(source.contains("LOCALES[1] = \"JA_JP\";"));
+            assertTrue(source.contains("CONTENTS[0] = \"Hello, \\\"{0}\\\"!\";"));
+        }
+
+        @Test
+        @DisplayName("Verify that nested interfaces are flattened into the generated name")
+        void testGenerateNestedRegistration() {
+            final JavaFileObject testInterface = JavaFileObjects.forSourceString(
+                    TEST_PACKAGE + ".Outer",
+                    """
+                            package test;
+                            
+                            import io.github.namiuni.kotonoha.annotations.Key;
+                            import io.github.namiuni.kotonoha.annotations.Locales;
+                            import io.github.namiuni.kotonoha.annotations.Message;
+                            
+                            public final class Outer {
+                            
+                                private interface NestedMessages {
+                                    @Key("test.nested")
+                                    @Message(locale = Locales.EN_US, content = "Nested")
+                                    void nested();
+                                }
+                            }
+                            """
+            );
+
+            final Compilation compilation = javac()
+                    .withProcessors(new MessageRegistrationGeneratorProcessor())
+                    .compile(testInterface);
+
+            assertThat(compilation).succeeded();
+            assertThat(compilation).generatedSourceFile(TEST_PACKAGE + ".Outer_NestedMessages_KotonohaRegistration");
+        }
+
+        @Test
+        @DisplayName("Verify that interfaces with a method missing @Message are skipped")
+        void testSkipMissingMessage() {
+            final JavaFileObject testInterface = JavaFileObjects.forSourceString(
+                    TEST_PACKAGE + ".MissingMessages",
+                    """
+                            package test;
+                            
+                            import io.github.namiuni.kotonoha.annotations.Key;
+                            
+                            public interface MissingMessages {
+                                @Key("test.missing")
+                                void missing();
+                            }
+                            """
+            );
+
+            final Compilation compilation = javac()
+                    .withProcessors(new MessageRegistrationGeneratorProcessor())
+                    .compile(testInterface);
+
+            assertThat(compilation).succeeded();
+            assertThat(compilation).hadNoteContaining("Skipped generating the registration of test.MissingMessages");
+        }
+
+        @Test
+        @DisplayName("Verify that an index of the message interfaces is generated")
+        void testGenerateIndex() throws IOException {
+            final JavaFileObject testInterface = JavaFileObjects.forSourceString(
+                    TEST_PACKAGE + ".IndexedMessages",
+                    """
+                            package test;
+                            
+                            import io.github.namiuni.kotonoha.annotations.Key;
+                            import io.github.namiuni.kotonoha.annotations.Locales;
+                            import io.github.namiuni.kotonoha.annotations.Message;
+                            
+                            public interface IndexedMessages {
+                            
+                                @Key("test.first")
+                                @Message(locale = Locales.EN_US, content = "First")
+                                @Message(locale = Locales.JA_JP, content = "一番目")
+                                void first();
+                            
+                                @Key("test.second")
+                                @Message(locale = Locales.EN_US, content = "Second")
+                                void second();
+                            
+                                interface Nested {
+                                    @Key("test.nested")
+                                    void nested();
+                                }
+                            }
+                            """
+            );
+
+            final Compilation compilation = javac()
+                    .withProcessors(new MessageRegistrationGeneratorProcessor())
+                    .compile(testInterface);
+
+            assertThat(compilation).succeeded();
+            assertThat(compilation).hadNoteContaining("Generated message interface index");
+
+            final String index = compilation.generatedFile(StandardLocation.CLASS_OUTPUT, "", MessageRegistrationGeneratorProcessor.INDEX_RESOURCE)
+                    .orElseThrow()
+                    .getCharContent(false)
+                    .toString();
+            assertTrue(index.contains("test.IndexedMessages 2 EN_US,JA_JP\n"));
+            assertTrue(index.contains("test.IndexedMessages$Nested 1 \n"));
+        }
+    }
+}
@@ -30,9 +30,12 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import com.google.testing.compile.Compilation;
 import com.google.testing.compile.JavaFileObjects;
+import java.io.DataInputStream;
+import java.io.IOException;
 import java.util.Set;
 import javax.lang.model.SourceVersion;
 import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -241,6 +244,45 @@ class ResourceBundleGeneratorProcessorTest {
             assertThat(compilation).hadNoteContaining("Generated resource bundle");
         }
 
+        @Test
+        @DisplayName("Verify that a binary translation bundle is generated")
+        void testGenerateBinaryBundle() throws IOException {
+            final JavaFileObject testInterface = JavaFileObjects.forSourceString(
+                    TEST_PACKAGE + ".BinaryBundleInterface",
+                    """
+                            package test;
+                            
+                            import io.github.namiuni.kotonoha.annotations.Key;
+                            import io.github.namiuni.kotonoha.annotations.Locales;
+                            import io.github.namiuni.kotonoha.annotations.ResourceBundle;
+                            import io.github.namiuni.kotonoha.annotations.Message;
+                            
+                            @ResourceBundle(baseName = "binary-messages")
+                            public interface BinaryBundleInterface {
+                                @Key("test.binary")
+                                @Message(locale = Locales.EN_US, content = "Hello")
+                                @Message(locale = Locales.JA_JP, content = "こんにちは")
+                                void binaryMessage();
+                            }
+                            """
+            );
+
+            final Compilation compilation = javac()
+                    .withProcessors(new ResourceBundleGeneratorProcessor())
+                    .compile(testInterface);
+
+            assertThat(compilation).succeeded();
+            assertThat(compilation).hadNoteContaining("Generated binary translation bundle");
+
+            final JavaFileObject bundle = compilation.generatedFile(StandardLocation.CLASS_OUTPUT, "", "binary-messages.kotonoha").orElseThrow();
+            try (DataInputStream input = new DataInputStream(bundle.openInputStream())) {
+                assertEquals(0x4B544E48, input.readInt());
+                assertEquals(1, input.readInt());
+                assertEquals(2, input.readInt());
+                assertEquals(1, input.readInt());
+            }
+        }
+
         @Test
         @DisplayName("Verify that Locales.ROOT is processed correctly")
         void testProcessWithRootLocale() {
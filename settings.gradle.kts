@@ -21,6 +21,7 @@ sequenceOf(
     "message",
     "message-extra-miniplaceholders",
     "translator",
+    "benchmarks",
 ).forEach {
     include("kotonoha-$it")
     project(":kotonoha-$it").projectDir = file(it)
@@ -0,0 +1,194 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Locale;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+// A memory-mapped translation bundle written by ResourceBundleGeneratorProcessor.
+// All integers are big-endian, and strings are UTF-8 without terminator:
+//
+//   int  magic ("KTNH"), int version
+//   int  locale count, int key count, int string count
+//   int  string index of every locale language tag
+//   int  string index of every key, sorted by key
+//   int  string index of the message of every key and locale, by key then locale, or -1 if there is none
+//   int  byte offset of every string relative to the string data, then int byte length of every string
+//   byte string data
+//
+// Only the header and the bounds of the sections are validated when the bundle is mapped, along with the keys and
+// locales, which are decoded up front. Messages are validated when they are read, so that mapping a bundle does not
+// touch its messages.
+@NullMarked
+final class BinaryTranslationBundle {
+
+    static final int MAGIC = 0x4B544E48;
+    static final int VERSION = 1;
+    private static final int HEADER_SIZE = 5 * Integer.BYTES;
+
+    private final ByteBuffer buffer;
+    private final int localeCount;
+    private final int keyCount;
+    private final int stringCount;
+    private final int messagesPosition;
+    private final int stringsPosition;
+    private final int dataPosition;
+    private final Locale[] locales;
+    private final String[] keys;
+
+    private BinaryTranslationBundle(final ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a translation bundle");
+        }
+        if (buffer.getInt(Integer.BYTES) != VERSION) {
+            throw new IOException("Unsupported translation bundle version: " + buffer.getInt(Integer.BYTES));
+        }
+
+        this.localeCount = buffer.getInt(2 * Integer.BYTES);
+        this.keyCount = buffer.getInt(3 * Integer.BYTES);
+        this.stringCount = buffer.getInt(4 * Integer.BYTES);
+        if (this.localeCount < 0 || this.keyCount < 0 || this.stringCount < 0) {
+            throw new IOException("Truncated translation bundle");
+        }
+
+        // Computed in long, so that corrupted counts cannot overflow into a position within the buffer
+        final long keysPosition = HEADER_SIZE + (long) this.localeCount * Integer.BYTES;
+        final long messagesPosition = keysPosition + (long) this.keyCount * Integer.BYTES;
+        final long stringsPosition = messagesPosition + (long) this.keyCount * this.localeCount * Integer.BYTES;
+        final long dataPosition = stringsPosition + 2L * this.stringCount * Integer.BYTES;
+        if (dataPosition > buffer.capacity()) {
+            throw new IOException("Truncated translation bundle");
+        }
+        this.messagesPosition = (int) messagesPosition;
+        this.stringsPosition = (int) stringsPosition;
+        this.dataPosition = (int) dataPosition;
+
+        this.locales = new Locale[this.localeCount];
+        for (int locale = 0; locale < this.localeCount; locale++) {
+            this.locales[locale] = Locale.forLanguageTag(this.checkedString(buffer.getInt(HEADER_SIZE + locale * Integer.BYTES)));
+        }
+        this.keys = new String[this.keyCount];
+        for (int key = 0; key < this.keyCount; key++) {
+            this.keys[key] = this.checkedString(buffer.getInt((int) keysPosition + key * Integer.BYTES));
+            // Keys are looked up by binary search
+            if (key > 0 && this.keys[key - 1].compareTo(this.keys[key]) >= 0) {
+                throw new IOException("Unsorted keys in translation bundle: " + this.keys[key]);
+            }
+        }
+    }
+
+    static BinaryTranslationBundle map(final Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            return new BinaryTranslationBundle(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    // Resources in a jar cannot be mapped, so they are read into memory instead
+    static BinaryTranslationBundle load(final ClassLoader classLoader, final String name) throws IOException {
+        final @Nullable URL resource = classLoader.getResource(name);
+        if (resource == null) {
+            throw new IOException("Translation bundle not found: " + name);
+        }
+        if (resource.getProtocol().equals("file")) {
+            try {
+                return BinaryTranslationBundle.map(Path.of(resource.toURI()));
+            } catch (final URISyntaxException exception) {
+                throw new IOException("Invalid translation bundle location: " + resource, exception);
+            }
+        }
+
+        try (InputStream input = resource.openStream()) {
+            return new BinaryTranslationBundle(ByteBuffer.wrap(input.readAllBytes()));
+        }
+    }
+
+    private String checkedString(final int string) throws IOException {
+        final @Nullable String decoded = this.decode(string);
+        if (decoded == null) {
+            throw new IOException("Invalid string in translation bundle: " + string);
+        }
+        return decoded;
+    }
+
+    int localeCount() {
+        return this.localeCount;
+    }
+
+    int keyCount() {
+        return this.keyCount;
+    }
+
+    Locale locale(final int locale) {
+        return this.locales[locale];
+    }
+
+    String key(final int key) {
+        return this.keys[key];
+    }
+
+    // Returns the index of the key, or a negative value if the bundle does not contain it
+    int find(final String key) {
+        return Arrays.binarySearch(this.keys, key);
+    }
+
+    // Returns the string index of the message, or -1 if the key has no message for the locale
+    int message(final int key, final int locale) {
+        return this.buffer.getInt(this.messagesPosition + (key * this.localeCount + locale) * Integer.BYTES);
+    }
+
+    // Returns the string, validating it on its first read since messages are not validated when the bundle is mapped
+    String string(final int string) throws IllegalStateException {
+        final @Nullable String decoded = this.decode(string);
+        if (decoded == null) {
+            throw new IllegalStateException("Invalid string in translation bundle: " + string);
+        }
+        return decoded;
+    }
+
+    // Returns null if the index, offset or length of the string is out of bounds
+    private @Nullable String decode(final int string) {
+        if (string < 0 || string >= this.stringCount) {
+            return null;
+        }
+        final int offset = this.buffer.getInt(this.stringsPosition + string * Integer.BYTES);
+        final int length = this.buffer.getInt(this.stringsPosition + (this.stringCount + string) * Integer.BYTES);
+        if (offset < 0 || length < 0 || (long) offset + length > this.buffer.capacity() - this.dataPosition) {
+            return null;
+        }
+        return StandardCharsets.UTF_8.decode(this.buffer.slice(this.dataPosition + offset, length)).toString();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiFunction;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+// The translations of a registered binary bundle, which are looked up in the bundle rather than copied into the store.
+// Keys are found by binary search, and the entries of a key are only created on its first lookup, then kept for the
+// later ones. A bundle is shared by every snapshot registered after it.
+@NullMarked
+final class BundleTranslations<T> {
+
+    private final BinaryTranslationBundle bundle;
+    private final BiFunction<String, Locale, T> parser;
+    private final AtomicReferenceArray<@Nullable Map<Locale, TranslationEntry<T>>> locales;
+
+    BundleTranslations(final BinaryTranslationBundle bundle, final BiFunction<String, Locale, T> parser) {
+        this.bundle = bundle;
+        this.parser = parser;
+        this.locales = new AtomicReferenceArray<>(bundle.keyCount());
+    }
+
+    // Returns the locales of the key in the first of the bundles containing it, or null if none does
+    static <T> @Nullable Map<Locale, TranslationEntry<T>> locales(final List<BundleTranslations<T>> bundles, final String key) {
+        for (final BundleTranslations<T> bundle : bundles) {
+            final @Nullable Map<Locale, TranslationEntry<T>> locales = bundle.locales(key);
+            if (locales != null) {
+                return locales;
+            }
+        }
+        return null;
+    }
+
+    int keyCount() {
+        return this.bundle.keyCount();
+    }
+
+    String key(final int key) {
+        return this.bundle.key(key);
+    }
+
+    // Returns the locales of the key, or null if the bundle does not contain it
+    @Nullable Map<Locale, TranslationEntry<T>> locales(final String key) {
+        final int index = this.bundle.find(key);
+        return index < 0 ? null : this.locales(index);
+    }
+
+    Map<Locale, TranslationEntry<T>> locales(final int key) {
+        final @Nullable Map<Locale, TranslationEntry<T>> cached = this.locales.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        final Map<Locale, TranslationEntry<T>> read = new HashMap<>();
+        for (int locale = 0; locale < this.bundle.localeCount(); locale++) {
+            final int message = this.bundle.message(key, locale);
+            if (message >= 0) {
+                final Locale translationLocale = this.bundle.locale(locale);
+                read.put(translationLocale, TranslationEntry.lazy(() -> this.parser.apply(this.bundle.string(message), translationLocale)));
+            }
+        }
+
+        // The entries of concurrent first lookups are dropped, so that each translation is parsed once
+        final Map<Locale, TranslationEntry<T>> created = Map.copyOf(read);
+        final @Nullable Map<Locale, TranslationEntry<T>> existing = this.locales.compareAndExchange(key, null, created);
+        return existing != null ? existing : created;
+    }
+
+    // Returns the locales of the keys looked up so far, whose templates may have been interned
+    List<Map<Locale, TranslationEntry<T>>> readLocales() {
+        final List<Map<Locale, TranslationEntry<T>>> readLocales = new ArrayList<>();
+        for (int key = 0; key < this.locales.length(); key++) {
+            final @Nullable Map<Locale, TranslationEntry<T>> locales = this.locales.get(key);
+            if (locales != null) {
+                readLocales.add(locales);
+            }
+        }
+        return readLocales;
+    }
+}
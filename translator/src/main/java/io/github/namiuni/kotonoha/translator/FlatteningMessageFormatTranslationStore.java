@@ -0,0 +1,71 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translator;
+
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TranslatableComponent;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+// Same as Adventure's MessageFormat translation store, with flattened lookups.
+// Translatable components of the formats parsed by the store are rendered from their precompiled form, other formats
+// are rendered by Adventure's renderer from translate(String, Locale).
+@NullMarked
+final class FlatteningMessageFormatTranslationStore extends FlatteningTranslationStore<MessageFormat> {
+
+    private final PrecompiledMessageFormats formats;
+
+    FlatteningMessageFormatTranslationStore(
+            final Key name,
+            final Map<String, Map<Locale, TranslationEntry<MessageFormat>>> translations,
+            final List<BundleTranslations<MessageFormat>> bundles,
+            final @Nullable Locale defaultLocale,
+            final KeyIndex keyIndex,
+            final PrecompiledMessageFormats formats
+    ) {
+        super(name, translations, bundles, defaultLocale, keyIndex);
+        this.formats = formats;
+    }
+
+    @Override
+    public @Nullable MessageFormat translate(final String key, final Locale locale) {
+        return this.translation(key, locale);
+    }
+
+    @Override
+    public @Nullable Component translate(final TranslatableComponent component, final Locale locale) {
+        final @Nullable MessageFormat format = this.translation(component.key(), locale);
+        if (format == null) {
+            return null;
+        }
+
+        final @Nullable PrecompiledMessageFormat precompiled = this.formats.get(format);
+        return precompiled == null ? null : precompiled.render(component);
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translator;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import net.kyori.adventure.internal.properties.AdventureProperties;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.translation.Translator;
+import net.kyori.adventure.util.TriState;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+// A translation store of a snapshot, which is never changed once it has been published.
+// Every key of the snapshot is given a dense index, shared by all locales. The first lookup for a locale resolves every
+// key with Adventure's locale fallback into an array indexed by those, so later lookups for that locale take a single
+// probe of the index, including the ones for keys that do not exist.
+// Publishing a snapshot does no work per translation: the keys are only indexed again once they change, and lookups
+// are resolved directly from the translations until they are frequent enough to pay for flattening a locale.
+// The keys of registered bundles are not indexed: they are looked up by binary search in the bundles, after the
+// translations registered directly.
+@NullMarked
+abstract class FlatteningTranslationStore<T> implements Translator {
+
+    // Locales come from clients, keep the number of tables bounded
+    private static final int MAX_TABLES = 64;
+    // Flattening a locale takes a pass over every key, so a snapshot first serves one direct lookup per this many keys
+    private static final int KEYS_PER_DIRECT_LOOKUP = 16;
+    private static final Supplier<Locale> GLOBAL_LOCALE = globalLocale();
+
+    private final Key name;
+    private final Map<String, Map<Locale, TranslationEntry<T>>> translations;
+    private final List<BundleTranslations<T>> bundles;
+    private final @Nullable Locale defaultLocale;
+    private final KeyIndex keyIndex;
+    private final Map<Locale, @Nullable Object[]> tables = new ConcurrentHashMap<>();
+    // Tables reserved before being flattened, which never exceed MAX_TABLES
+    private final AtomicInteger tableCount = new AtomicInteger();
+    private final AtomicInteger directLookups = new AtomicInteger();
+
+    FlatteningTranslationStore(
+            final Key name,
+            final Map<String, Map<Locale, TranslationEntry<T>>> translations,
+            final List<BundleTranslations<T>> bundles,
+            final @Nullable Locale defaultLocale,
+            final KeyIndex keyIndex
+    ) {
+        this.name = name;
+        this.translations = translations;
+        this.bundles = bundles;
+        this.defaultLocale = defaultLocale;
+        this.keyIndex = keyIndex;
+    }
+
+    final Map<String, Map<Locale, TranslationEntry<T>>> translations() {
+        return this.translations;
+    }
+
+    final List<BundleTranslations<T>> bundles() {
+        return this.bundles;
+    }
+
+    final @Nullable Locale defaultLocale() {
+        return this.defaultLocale;
+    }
+
+    final KeyIndex keyIndex() {
+        return this.keyIndex;
+    }
+
+    @Override
+    public final Key name() {
+        return this.name;
+    }
+
+    @Override
+    public final TriState hasAnyTranslations() {
+        return TriState.byBoolean(!this.translations.isEmpty() || this.bundles.stream().anyMatch(bundle -> bundle.keyCount() > 0));
+    }
+
+    // Translator renders a translatable component to answer this by default
+    @Override
+    public final boolean canTranslate(final String key, final Locale locale) {
+        return this.translationValue(key, locale) != null;
+    }
+
+    // Returns the locales of the key, which are empty if it was unregistered, or null if it was never registered
+    final @Nullable Map<Locale, TranslationEntry<T>> locales(final String key) {
+        final @Nullable Map<Locale, TranslationEntry<T>> locales = this.translations.get(key);
+        return locales != null ? locales : BundleTranslations.locales(this.bundles, key);
+    }
+
+    // Returns the translation of the key for the locale, parsing it if it is registered lazily
+    final @Nullable T translation(final String key, final Locale locale) {
+        final @Nullable TranslationEntry<T> entry = this.translationValue(key, locale);
+        return entry == null ? null : entry.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    private @Nullable TranslationEntry<T> translationValue(final String key, final Locale locale) {
+        final @Nullable Object @Nullable [] table = this.table(locale);
+        if (table == null) {
+            return this.resolve(key, locale);
+        }
+
+        final @Nullable Integer index = this.keyIndex.indexes().indexes().get(key);
+        if (index == null) {
+            return this.bundles.isEmpty() ? null : this.resolve(key, locale);
+        }
+        return (TranslationEntry<T>) table[index];
+    }
+
+    // Returns the flattened translations of the locale, or null if lookups for it are resolved directly
+    private @Nullable Object @Nullable [] table(final Locale locale) {
+        final @Nullable Object @Nullable [] table = this.tables.get(locale);
+        if (table != null) {
+            return table;
+        }
+
+        if (this.tableCount.get() >= MAX_TABLES
+                || this.directLookups.getAndIncrement() < this.translations.size() / KEYS_PER_DIRECT_LOOKUP
+                || !this.reserveTable()) {
+            return null;
+        }
+
+        // Flattened outside the map, so that lookups of other locales do not wait for it
+        final @Nullable Object[] flattened = this.flatten(locale);
+        final @Nullable Object @Nullable [] existing = this.tables.putIfAbsent(locale, flattened);
+        if (existing != null) {
+            // Flattened concurrently by another lookup
+            this.tableCount.decrementAndGet();
+            return existing;
+        }
+        return flattened;
+    }
+
+    private boolean reserveTable() {
+        int count;
+        do {
+            count = this.tableCount.get();
+            if (count >= MAX_TABLES) {
+                return false;
+            }
+        } while (!this.tableCount.compareAndSet(count, count + 1));
+        return true;
+    }
+
+    private @Nullable Object[] flatten(final Locale locale) {
+        final String[] keys = this.keyIndex.indexes().keys();
+        final @Nullable Object[] table = new Object[keys.length];
+        for (int index = 0; index < keys.length; index++) {
+            table[index] = this.resolve(keys[index], locale);
+        }
+        return table;
+    }
+
+    // Same fallback as Adventure's stores: the locale, its language, the default locale of the store, and then the global
+    // locale of Adventure
+    private @Nullable TranslationEntry<T> resolve(final String key, final Locale locale) {
+        final @Nullable Map<Locale, TranslationEntry<T>> locales = this.locales(key);
+        if (locales == null || locales.isEmpty()) {
+            return null;
+        }
+
+        @Nullable TranslationEntry<T> entry = locales.get(locale);
+        if (entry == null) {
+            entry = locales.get(Locale.of(locale.getLanguage()));
+        }
+        if (entry == null) {
+            entry = locales.get(this.defaultLocale == null ? Locale.US : this.defaultLocale);
+        }
+        if (entry == null) {
+            entry = locales.get(GLOBAL_LOCALE.get());
+        }
+        return entry;
+    }
+
+    // Same as Adventure's TranslationLocales, which is not accessible
+    private static Supplier<Locale> globalLocale() {
+        final @Nullable String property = AdventureProperties.DEFAULT_TRANSLATION_LOCALE.value();
+        if (property == null || property.isEmpty()) {
+            return () -> Locale.US;
+        }
+        if (property.equals("system")) {
+            return Locale::getDefault;
+        }
+        final Locale locale = Translator.parseLocale(property);
+        return () -> locale;
+    }
+
+    // Creates the store of a snapshot
+    @FunctionalInterface
+    interface Factory<T> {
+
+        FlatteningTranslationStore<T> create(
+                Key name,
+                Map<String, Map<Locale, TranslationEntry<T>>> translations,
+                List<BundleTranslations<T>> bundles,
+                @Nullable Locale defaultLocale,
+                KeyIndex keyIndex
+        );
+    }
+
+    // The dense indexes of the keys of a snapshot, built once a locale is first flattened.
+    // Snapshots with the same keys share it, so that changing translations does not index the keys again.
+    static final class KeyIndex {
+
+        private @Nullable Set<String> keySet; // Guarded by this, dropped once indexed
+        private volatile @Nullable Indexes indexes;
+
+        KeyIndex(final Set<String> keySet) {
+            this.keySet = keySet;
+        }
+
+        private Indexes indexes() {
+            @Nullable Indexes indexes = this.indexes;
+            if (indexes == null) {
+                synchronized (this) {
+                    indexes = this.indexes;
+                    if (indexes == null) {
+                        indexes = new Indexes(Objects.requireNonNull(this.keySet).toArray(String[]::new));
+                        this.indexes = indexes;
+                        this.keySet = null;
+                    }
+                }
+            }
+            return indexes;
+        }
+
+        private record Indexes(String[] keys, Map<String, Integer> indexes) {
+
+            private Indexes(final String[] keys) {
+                this(keys, index(keys));
+            }
+
+            private static Map<String, Integer> index(final String[] keys) {
+                final Map<String, Integer> indexes = new HashMap<>(keys.length);
+                for (int index = 0; index < keys.length; index++) {
+                    indexes.put(keys[index], index);
+                }
+                return Map.copyOf(indexes);
+            }
+        }
+    }
+}
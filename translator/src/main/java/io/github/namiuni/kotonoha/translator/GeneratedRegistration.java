@@ -0,0 +1,72 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translator;
+
+import io.github.namiuni.kotonoha.annotations.Locales;
+import java.util.Locale;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+// The constants generated by MessageRegistrationGeneratorProcessor for a message interface.
+// Translation i has KEYS[i], LOCALES[i] and CONTENTS[i], locales being names of Locales constants.
+@NullMarked
+record GeneratedRegistration(int methodCount, String[] keys, Locale[] locales, String[] contents) {
+
+    private static final String GENERATED_REGISTRATION_SUFFIX = "_KotonohaRegistration";
+
+    static @Nullable GeneratedRegistration find(final Class<?> messageInterface) throws IllegalStateException {
+        final String packageName = messageInterface.getPackageName();
+        final String nestedName = packageName.isEmpty()
+                ? messageInterface.getName()
+                : messageInterface.getName().substring(packageName.length() + 1);
+        final String simpleName = nestedName.replace('$', '_') + GENERATED_REGISTRATION_SUFFIX;
+        final String generatedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+        final Class<?> generatedType;
+        try {
+            generatedType = Class.forName(generatedName, true, messageInterface.getClassLoader());
+        } catch (final ClassNotFoundException ignored) {
+            return null;
+        }
+
+        try {
+            final int methodCount = generatedType.getField("METHOD_COUNT").getInt(null);
+            final String[] keys = (String[]) generatedType.getField("KEYS").get(null);
+            final String[] localeNames = (String[]) generatedType.getField("LOCALES").get(null);
+            final String[] contents = (String[]) generatedType.getField("CONTENTS").get(null);
+            if (keys.length != localeNames.length || keys.length != contents.length) {
+                throw new IllegalStateException("Malformed generated registration '%s'".formatted(generatedName));
+            }
+
+            final Locale[] locales = new Locale[localeNames.length];
+            for (int i = 0; i < localeNames.length; i++) {
+                locales[i] = Locales.valueOf(localeNames[i]).asLocale();
+            }
+            return new GeneratedRegistration(methodCount, keys, locales, contents);
+        } catch (final ReflectiveOperationException | ClassCastException | IllegalArgumentException exception) {
+            final String message = "Malformed generated registration '%s'".formatted(generatedName);
+            throw new IllegalStateException(message, exception);
+        }
+    }
+}
@@ -24,45 +24,257 @@
 package io.github.namiuni.kotonoha.translator;
 
 import io.github.namiuni.kotonoha.annotations.Message;
+import java.io.BufferedReader;
+import java.io.IOException;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.PropertyResourceBundle;
 import java.util.ResourceBundle;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.TranslatableComponent;
-import net.kyori.adventure.translation.TranslationStore;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
 
 @NullMarked
 abstract sealed class KotonohaForwardingTranslationStore<T> implements KotonohaTranslationStore<T> permits KotonohaMessageFormatTranslationStore, KotonohaMiniMessageTranslationStore {
 
-    private final TranslationStore.StringBased<T> store;
+    private final Key name;
+    private final FlatteningTranslationStore.Factory<T> storeFactory;
+    private final TemplateInterner<T> interner = new TemplateInterner<>(this::parse, this::isLocaleSensitive);
+    // Replaced as a whole on every change, so that readers always see a complete set of translations
+    private volatile FlatteningTranslationStore<T> snapshot;
+    private volatile boolean lazyParsing;
+    // Keys whose translations are parsed when published, even when parsing lazily
+    private Set<String> warmUpKeys = Set.of();
 
-    protected KotonohaForwardingTranslationStore(final TranslationStore.StringBased<T> store) {
-        this.store = store;
+    protected KotonohaForwardingTranslationStore(final Key name, final FlatteningTranslationStore.Factory<T> storeFactory) {
+        this.name = name;
+        this.storeFactory = storeFactory;
+        this.snapshot = storeFactory.create(name, Map.of(), List.of(), null, new FlatteningTranslationStore.KeyIndex(Set.of()));
+    }
+
+    @Override
+    public void batch(final Consumer<? super TranslationBatch<T>> changes) {
+        this.publish(changes::accept);
+    }
+
+    // Applies the changes to a copy of the current translations and replaces the snapshot with the result.
+    // The copy shares every key left untouched with the current snapshot, and the store of the new snapshot reads the
+    // translations in place, so a change costs a copy of the key set rather than of every translation.
+    synchronized void publish(final Consumer<TranslationBatchImpl<T>> changes) {
+        final FlatteningTranslationStore<T> current = this.snapshot;
+        final TranslationBatchImpl<T> batch = new TranslationBatchImpl<>(this, current.translations(), current.bundles(), current.defaultLocale());
+        changes.accept(batch);
+
+        final Map<String, Map<Locale, TranslationEntry<T>>> translations = batch.translations();
+        final List<BundleTranslations<T>> bundles = batch.bundles();
+        final FlatteningTranslationStore.KeyIndex keyIndex = batch.keySetChanged()
+                ? new FlatteningTranslationStore.KeyIndex(translations.keySet())
+                : current.keyIndex();
+        final FlatteningTranslationStore<T> store = this.storeFactory.create(this.name, translations, bundles, batch.defaultLocale(), keyIndex);
+        parseAll(store, this.warmUpKeys);
+        this.snapshot = store;
+        // Templates can only become unused when a translation is replaced or removed
+        if (batch.translationsDropped()) {
+            final List<Map<Locale, TranslationEntry<T>>> registered = new ArrayList<>(translations.values());
+            for (final BundleTranslations<T> bundle : bundles) {
+                registered.addAll(bundle.readLocales());
+            }
+            this.interner.retain(registered);
+            this.retainTemplates(registered);
+        }
+
+        for (final KotonohaRegisterInterfaceEvent event : batch.events()) {
+            if (event.isEnabled() && event.shouldCommit()) {
+                event.commit();
+            }
+        }
+    }
+
+    @Override
+    public void lazyParsing(final boolean lazyParsing) {
+        this.lazyParsing = lazyParsing;
+    }
+
+    @Override
+    public synchronized void warmUpKeys(final Collection<String> keys) throws IllegalArgumentException {
+        this.warmUpKeys = Set.copyOf(keys);
+        parseAll(this.snapshot, this.warmUpKeys);
+    }
+
+    private static <T> void parseAll(final FlatteningTranslationStore<T> store, final Set<String> keys) {
+        for (final String key : keys) {
+            final @Nullable Map<Locale, TranslationEntry<T>> locales = store.locales(key);
+            if (locales != null) {
+                locales.values().forEach(TranslationEntry::get);
+            }
+        }
+    }
+
+    @Override
+    public void registerBundle(final Path bundle) throws IOException, IllegalArgumentException {
+        final BundleTranslations<T> translations = new BundleTranslations<>(BinaryTranslationBundle.map(bundle), this::intern);
+        this.publish(batch -> batch.registerBundle(translations));
+    }
+
+    @Override
+    public void registerBundle(final ClassLoader classLoader, final String name) throws IOException, IllegalArgumentException {
+        final BundleTranslations<T> translations = new BundleTranslations<>(BinaryTranslationBundle.load(classLoader, name), this::intern);
+        this.publish(batch -> batch.registerBundle(translations));
+    }
+
+    @Override
+    public TranslationWatcher watch(final Path directory, final boolean escapeSingleQuotes) throws IOException {
+        return this.watch(directory, TranslationWatcherImpl::fileNameLocale, escapeSingleQuotes);
+    }
+
+    @Override
+    public TranslationWatcher watch(
+            final Path directory,
+            final Function<Path, @Nullable Locale> locales,
+            final boolean escapeSingleQuotes
+    ) throws IOException {
+        final TranslationWatcherImpl<T> watcher = new TranslationWatcherImpl<>(this, directory, locales, escapeSingleQuotes);
+        watcher.start();
+        return watcher;
     }
 
     @Override
     public void registerInterface(final Class<?> messageInterface) throws IllegalStateException {
-        final Method[] methods = messageInterface.getMethods();
-        for (final Method method : methods) {
-            this.registerMethod(method);
+        final StagedInterface<T> stagedInterface = this.stage(messageInterface);
+        this.publish(batch -> batch.registerStaged(stagedInterface));
+    }
+
+    @Override
+    public void registerIndexed(final ClassLoader classLoader) throws IOException, IllegalStateException, IllegalArgumentException {
+        final List<Class<?>> messageInterfaces = MessageInterfaceIndex.read(classLoader);
+        final List<StagedInterface<T>> stagedInterfaces = new ArrayList<>(messageInterfaces.size());
+        // Interfaces extending the same super interface inherit its methods, which are only staged with the first one
+        final Set<Class<?>> stagedDeclaringInterfaces = new HashSet<>();
+        for (final Class<?> messageInterface : messageInterfaces) {
+            stagedInterfaces.add(this.stage(messageInterface, stagedDeclaringInterfaces));
+            addInterfaces(messageInterface, stagedDeclaringInterfaces);
+        }
+
+        this.publish(batch -> stagedInterfaces.forEach(batch::registerStaged));
+    }
+
+    @Override
+    public CompletableFuture<Void> registerInterfaceAsync(final Class<?> messageInterface, final Executor executor) {
+        return this.registerInterfaces(List.of(messageInterface), executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> registerInterfaces(final Collection<? extends Class<?>> messageInterfaces, final Executor executor) {
+        final List<CompletableFuture<StagedInterface<T>>> stagedInterfaces = new ArrayList<>(messageInterfaces.size());
+        for (final Class<?> messageInterface : messageInterfaces) {
+            stagedInterfaces.add(CompletableFuture.supplyAsync(() -> this.stage(messageInterface), executor));
         }
+
+        return CompletableFuture.allOf(stagedInterfaces.toArray(CompletableFuture[]::new))
+                .thenRun(() -> this.publish(batch -> {
+                    for (final CompletableFuture<StagedInterface<T>> stagedInterface : stagedInterfaces) {
+                        batch.registerStaged(stagedInterface.join());
+                    }
+                }));
+    }
+
+    private static void addInterfaces(final Class<?> messageInterface, final Set<Class<?>> interfaces) {
+        if (interfaces.add(messageInterface)) {
+            for (final Class<?> superInterface : messageInterface.getInterfaces()) {
+                addInterfaces(superInterface, interfaces);
+            }
+        }
+    }
+
+    StagedInterface<T> stage(final Class<?> messageInterface) throws IllegalStateException {
+        return this.stage(messageInterface, Set.of());
     }
 
-    private void registerMethod(final Method method) throws IllegalStateException {
+    // Parses the messages of the interface without touching the store, so that it can run on any thread.
+    // The messages are read from the registration generated for the interface if any, or else through reflection.
+    // Methods declared by the skipped interfaces are left out.
+    private StagedInterface<T> stage(final Class<?> messageInterface, final Set<Class<?>> skippedInterfaces) throws IllegalStateException {
+        final KotonohaRegisterInterfaceEvent event = new KotonohaRegisterInterfaceEvent();
+        event.begin();
+
+        final List<StagedTranslation<T>> translations = new ArrayList<>();
+        int methodCount = 0;
+        long parseNanos = 0;
+        final @Nullable GeneratedRegistration registration = GeneratedRegistration.find(messageInterface);
+        if (registration != null) {
+            methodCount = registration.methodCount();
+            final Set<String> skippedKeys = skippedKeys(messageInterface, skippedInterfaces);
+            final long parseStart = System.nanoTime();
+            for (int i = 0; i < registration.keys().length; i++) {
+                if (skippedKeys.contains(registration.keys()[i])) {
+                    continue;
+                }
+                final Locale locale = registration.locales()[i];
+                final TranslationEntry<T> entry = this.entry(registration.contents()[i], locale);
+                translations.add(new StagedTranslation<>(registration.keys()[i], locale, entry));
+            }
+            parseNanos = System.nanoTime() - parseStart;
+        } else {
+            final Method[] methods = messageInterface.getMethods();
+            for (final Method method : methods) {
+                if (skippedInterfaces.contains(method.getDeclaringClass())) {
+                    continue;
+                }
+                final long methodParseNanos = this.stageMethod(method, translations);
+                if (methodParseNanos >= 0) {
+                    methodCount++;
+                    parseNanos += methodParseNanos;
+                }
+            }
+        }
+
+        event.end();
+        if (event.isEnabled()) {
+            event.set(messageInterface, methodCount, parseNanos);
+        }
+        return new StagedInterface<>(translations, event);
+    }
+
+    // The registration of an interface lists the keys of its inherited methods too, which are told apart through reflection
+    private static Set<String> skippedKeys(final Class<?> messageInterface, final Set<Class<?>> skippedInterfaces) {
+        if (skippedInterfaces.isEmpty()) {
+            return Set.of();
+        }
+
+        final Set<String> skippedKeys = new HashSet<>();
+        for (final Method method : messageInterface.getMethods()) {
+            final var keyAnnotation = method.getAnnotation(io.github.namiuni.kotonoha.annotations.Key.class);
+            if (keyAnnotation != null && skippedInterfaces.contains(method.getDeclaringClass())) {
+                skippedKeys.add(keyAnnotation.value());
+            }
+        }
+        return skippedKeys;
+    }
+
+    // Returns the time spent parsing the messages of the method, or -1 if the method is not a message method
+    private long stageMethod(final Method method, final List<StagedTranslation<T>> translations) throws IllegalStateException {
         if (method.isDefault()) {
-            return;
+            return -1;
         }
 
         if (ObjectMethodChecker.isObjectMethod(method)) {
-            return;
+            return -1;
         }
 
         final String translationKey = getTranslationKey(method);
@@ -74,16 +286,39 @@ abstract sealed class KotonohaForwardingTranslationStore<T> implements KotonohaT
             throw new IllegalStateException(message);
         }
 
+        long parseNanos = 0;
         for (final Message messageAnnotation : messageAnnotations) {
             final Locale locale = messageAnnotation.locale().asLocale();
             final String translationMessage = messageAnnotation.content();
-            final T parsedMessage = this.parse(translationMessage, locale);
-            this.store.register(translationKey, locale, parsedMessage);
+            final long parseStart = System.nanoTime();
+            final TranslationEntry<T> entry = this.entry(translationMessage, locale);
+            parseNanos += System.nanoTime() - parseStart;
+            translations.add(new StagedTranslation<>(translationKey, locale, entry));
         }
+        return parseNanos;
+    }
+
+    // Returns the entry of a template, which is parsed now or on its first lookup depending on the parsing mode
+    TranslationEntry<T> entry(final String translationMessage, final Locale locale) {
+        if (this.lazyParsing) {
+            return TranslationEntry.lazy(() -> this.intern(translationMessage, locale));
+        }
+        return TranslationEntry.parsed(this.intern(translationMessage, locale));
+    }
+
+    // Returns the parsed template, shared with the identical templates registered before
+    private T intern(final String translationMessage, final Locale locale) {
+        return this.interner.intern(translationMessage, locale);
     }
 
     abstract T parse(String translationMessage, Locale locale);
 
+    // Whether the parsed form of the template depends on the locale it was parsed for
+    abstract boolean isLocaleSensitive(T translation);
+
+    // Forgets what is kept for the templates that are no longer registered, once translations are replaced or removed
+    abstract void retainTemplates(Collection<? extends Map<Locale, TranslationEntry<T>>> translations);
+
     private static String getTranslationKey(final Method method) {
         final var keyClass = io.github.namiuni.kotonoha.annotations.Key.class;
         if (!method.isAnnotationPresent(keyClass)) {
@@ -98,61 +333,113 @@ abstract sealed class KotonohaForwardingTranslationStore<T> implements KotonohaT
 
     @Override
     public void registerAll(final Locale locale, final Path path, final boolean escapeSingleQuotes) {
-        this.store.registerAll(locale, path, escapeSingleQuotes);
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            this.registerAll(locale, new PropertyResourceBundle(reader), escapeSingleQuotes);
+        } catch (final IOException ignored) {
+            // Same as Adventure's translation stores, which ignore files that cannot be read
+        }
     }
 
     @Override
     public void registerAll(final Locale locale, final ResourceBundle bundle, final boolean escapeSingleQuotes) {
-        this.store.registerAll(locale, bundle, escapeSingleQuotes);
+        this.batch(batch -> batch.registerAll(locale, bundle, escapeSingleQuotes));
     }
 
     @Override
     public boolean contains(final String key) {
-        return this.store.contains(key);
+        final @Nullable Map<Locale, TranslationEntry<T>> locales = this.snapshot.locales(key);
+        return locales != null && !locales.isEmpty();
     }
 
     @Override
     public boolean contains(final String key, final Locale locale) {
-        return this.store.contains(key, locale);
+        final @Nullable Map<Locale, TranslationEntry<T>> locales = this.snapshot.locales(key);
+        return locales != null && locales.containsKey(locale);
     }
 
     @Override
     public void defaultLocale(final Locale locale) {
-        this.store.defaultLocale(locale);
+        this.batch(batch -> batch.defaultLocale(locale));
     }
 
     @Override
     public void register(final String key, final Locale locale, final T translation) {
-        this.store.register(key, locale, translation);
+        this.batch(batch -> batch.register(key, locale, translation));
     }
 
     @Override
     public void registerAll(final Locale locale, final Map<String, T> translations) {
-        this.store.registerAll(locale, translations);
+        this.batch(batch -> batch.registerAll(locale, translations));
     }
 
     @Override
     public void registerAll(final Locale locale, final Set<String> keys, final Function<String, T> function) {
-        this.store.registerAll(locale, keys, function);
+        this.batch(batch -> {
+            for (final String key : keys) {
+                batch.register(key, locale, function.apply(key));
+            }
+        });
     }
 
     @Override
     public void unregister(final String key) {
-        this.store.unregister(key);
+        this.batch(batch -> batch.unregister(key));
     }
 
     @Override
     public Key name() {
-        return this.store.name();
+        return this.name;
+    }
+
+    @Override
+    public TemplateStatistics templateStatistics() {
+        return this.interner.statistics();
+    }
+
+    @Override
+    public boolean canTranslate(final String key, final Locale locale) {
+        return this.snapshot.canTranslate(key, locale);
     }
 
     @Override
     public @Nullable MessageFormat translate(final String key, final Locale locale) {
-        return this.store.translate(key, locale);
+        final FlatteningTranslationStore<T> store = this.snapshot;
+        final KotonohaTranslateEvent event = new KotonohaTranslateEvent();
+        if (!event.isEnabled()) {
+            return store.translate(key, locale);
+        }
+
+        event.begin();
+        final @Nullable MessageFormat translation = store.translate(key, locale);
+        event.end();
+        if (event.shouldCommit()) {
+            event.set(key, locale, translation != null);
+            event.commit();
+        }
+        return translation;
     }
 
     @Override
     public @Nullable Component translate(final TranslatableComponent component, final Locale locale) {
-        return this.store.translate(component, locale);
+        final FlatteningTranslationStore<T> store = this.snapshot;
+        final KotonohaTranslateEvent event = new KotonohaTranslateEvent();
+        if (!event.isEnabled()) {
+            return store.translate(component, locale);
+        }
+
+        event.begin();
+        final @Nullable Component translation = store.translate(component, locale);
+        event.end();
+        if (event.shouldCommit()) {
+            event.set(component.key(), locale, translation != null);
+            event.commit();
+        }
+        return translation;
+    }
+
+    record StagedInterface<T>(List<StagedTranslation<T>> translations, KotonohaRegisterInterfaceEvent event) {
+    }
+
+    record StagedTranslation<T>(String key, Locale locale, TranslationEntry<T> entry) {
     }
 }
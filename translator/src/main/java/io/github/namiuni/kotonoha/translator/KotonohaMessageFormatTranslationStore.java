@@ -24,20 +24,41 @@
 package io.github.namiuni.kotonoha.translator;
 
 import java.text.MessageFormat;
+import java.util.Collection;
 import java.util.Locale;
+import java.util.Map;
 import net.kyori.adventure.key.Key;
-import net.kyori.adventure.translation.TranslationStore;
 import org.jspecify.annotations.NullMarked;
 
 @NullMarked
 final class KotonohaMessageFormatTranslationStore extends KotonohaForwardingTranslationStore<MessageFormat> {
 
+    private final PrecompiledMessageFormats formats;
+
     KotonohaMessageFormatTranslationStore(final Key name) {
-        super(TranslationStore.messageFormat(name));
+        this(name, new PrecompiledMessageFormats());
+    }
+
+    private KotonohaMessageFormatTranslationStore(final Key name, final PrecompiledMessageFormats formats) {
+        super(name, (storeName, translations, bundles, defaultLocale, keyIndex) ->
+                new FlatteningMessageFormatTranslationStore(storeName, translations, bundles, defaultLocale, keyIndex, formats));
+        this.formats = formats;
     }
 
     @Override
     protected MessageFormat parse(final String string, final Locale locale) {
-        return new MessageFormat(string, locale);
+        // Compile the format now so that the first translation does not pay for it
+        return this.formats.prepare(new MessageFormat(string, locale));
+    }
+
+    @Override
+    boolean isLocaleSensitive(final MessageFormat translation) {
+        // Arguments are formatted with the locale of the format, even without a format type
+        return translation.getFormats().length > 0;
+    }
+
+    @Override
+    void retainTemplates(final Collection<? extends Map<Locale, TranslationEntry<MessageFormat>>> translations) {
+        this.formats.retain(translations);
     }
 }
@@ -23,21 +23,42 @@
  */
 package io.github.namiuni.kotonoha.translator;
 
+import java.util.Collection;
 import java.util.Locale;
+import java.util.Map;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.minimessage.MiniMessage;
-import net.kyori.adventure.text.minimessage.translation.MiniMessageTranslationStore;
 import org.jspecify.annotations.NullMarked;
 
 @NullMarked
 final class KotonohaMiniMessageTranslationStore extends KotonohaForwardingTranslationStore<String> {
 
+    private final StaticMiniMessageTemplates templates;
+
     KotonohaMiniMessageTranslationStore(final Key name, final MiniMessage miniMessage) {
-        super(MiniMessageTranslationStore.create(name, miniMessage));
+        this(name, new StaticMiniMessageTemplates(miniMessage));
+    }
+
+    private KotonohaMiniMessageTranslationStore(final Key name, final StaticMiniMessageTemplates templates) {
+        super(name, (storeName, translations, bundles, defaultLocale, keyIndex) ->
+                new PreparsedMiniMessageTranslationStore(storeName, translations, bundles, defaultLocale, keyIndex, templates));
+        this.templates = templates;
     }
 
     @Override
     String parse(final String input, final Locale locale) {
+        // Parse static templates now so that the first translation does not pay for it
+        this.templates.prepare(input);
         return input;
     }
+
+    @Override
+    boolean isLocaleSensitive(final String translation) {
+        return false;
+    }
+
+    @Override
+    void retainTemplates(final Collection<? extends Map<Locale, TranslationEntry<String>>> translations) {
+        this.templates.retain(translations);
+    }
 }
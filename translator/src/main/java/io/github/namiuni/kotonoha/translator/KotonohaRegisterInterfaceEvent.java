@@ -0,0 +1,60 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translator;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+// Emitted for every message interface registered while a flight recording is running
+@NullMarked
+@Name("io.github.namiuni.kotonoha.RegisterInterface")
+@Label("Kotonoha Register Interface")
+@Category({"Kotonoha", "Translator"})
+@Description("Registration of the messages declared by a message interface")
+final class KotonohaRegisterInterfaceEvent extends Event {
+
+    @Label("Message Interface")
+    private @Nullable Class<?> messageInterface;
+
+    @Label("Method Count")
+    @Description("Number of methods whose messages were registered")
+    private int methodCount;
+
+    @Label("Parse Time")
+    @Description("Time spent parsing messages")
+    @Timespan(Timespan.NANOSECONDS)
+    private long parseTime;
+
+    void set(final Class<?> registeredInterface, final int registeredMethods, final long parseNanos) {
+        this.messageInterface = registeredInterface;
+        this.methodCount = registeredMethods;
+        this.parseTime = parseNanos;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translator;
+
+import java.util.Locale;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+// Emitted for every translation lookup while a flight recording is running
+@NullMarked
+@Name("io.github.namiuni.kotonoha.Translate")
+@Label("Kotonoha Translate")
+@Category({"Kotonoha", "Translator"})
+@Description("Translation lookup in a kotonoha translation store")
+@StackTrace(false)
+final class KotonohaTranslateEvent extends Event {
+
+    @Label("Translation Key")
+    private @Nullable String key;
+
+    @Label("Locale")
+    private @Nullable String locale;
+
+    @Label("Hit")
+    @Description("Whether a translation was found")
+    private boolean hit;
+
+    void set(final String translationKey, final Locale requestedLocale, final boolean found) {
+        this.key = translationKey;
+        this.locale = requestedLocale.toLanguageTag();
+        this.hit = found;
+    }
+}
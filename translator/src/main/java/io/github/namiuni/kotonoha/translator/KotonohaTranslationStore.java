@@ -24,11 +24,20 @@
 package io.github.namiuni.kotonoha.translator;
 
 import io.github.namiuni.kotonoha.annotations.Message;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.text.MessageFormat;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.translation.TranslationStore;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Define a translation store for registering translations from the message interface.
@@ -81,6 +90,9 @@ public sealed interface KotonohaTranslationStore<T> extends TranslationStore.Str
      * <p>
      * This method scans the given interface for {@link io.github.namiuni.kotonoha.annotations.Key} and {@link Message} annotated methods
      * and registers their localized content into the translation store.
+     * <p>
+     * When the interface was compiled with the {@code kotonoha-resourcebundle-generator-processor}, its messages are read
+     * from the generated registration class instead of being scanned.
      *
      * @param messageInterface the message interface
      * @throws IllegalStateException if a method is not annotated with either {@link io.github.namiuni.kotonoha.annotations.Key} or {@link Message}
@@ -88,4 +100,178 @@ public sealed interface KotonohaTranslationStore<T> extends TranslationStore.Str
      * @since 0.1.0
      */
     void registerInterface(Class<?> messageInterface) throws IllegalStateException;
+
+    /**
+     * Registers a message interface containing annotated translations asynchronously.
+     * <p>
+     * The messages of the interface are parsed on the given executor and registered once all of them have been parsed.
+     *
+     * @param messageInterface the message interface
+     * @param executor         the executor parsing the messages
+     * @return a future completed once the translations are registered, or completed exceptionally with an
+     *         {@link IllegalStateException} if a method is not annotated with either {@link io.github.namiuni.kotonoha.annotations.Key}
+     *         or {@link Message}
+     * @see #registerInterfaces(Collection, Executor)
+     * @since 0.3.0
+     */
+    CompletableFuture<Void> registerInterfaceAsync(Class<?> messageInterface, Executor executor);
+
+    /**
+     * Registers message interfaces containing annotated translations in parallel.
+     * <p>
+     * Each message interface is parsed as a separate task on the given executor. The translations are registered together
+     * once every interface has been parsed, so either all of them are registered or, if any interface fails, none are.
+     *
+     * @param messageInterfaces the message interfaces
+     * @param executor          the executor parsing the messages
+     * @return a future completed once the translations are registered, or completed exceptionally with an
+     *         {@link IllegalStateException} if a method is not annotated with either {@link io.github.namiuni.kotonoha.annotations.Key}
+     *         or {@link Message}, or an {@link IllegalArgumentException} if a translation is already registered
+     * @see #registerInterface(Class)
+     * @since 0.3.0
+     */
+    CompletableFuture<Void> registerInterfaces(Collection<? extends Class<?>> messageInterfaces, Executor executor);
+
+    /**
+     * Registers every message interface listed in the {@code META-INF/kotonoha/index} resources of a class loader.
+     * <p>
+     * The index is generated by the {@code kotonoha-resourcebundle-generator-processor} for the message interfaces of each
+     * compiled module, so that they can be registered without listing them by hand or scanning the class path. The
+     * interfaces are registered together, so either all of them are registered or, if any interface fails, none are. An
+     * interface extended by another listed interface is registered through the latter only.
+     *
+     * @param classLoader the class loader to read the indexes from and load the interfaces with
+     * @throws IOException              if an index cannot be read
+     * @throws IllegalStateException    if an interface cannot be loaded, or a method is not annotated with either
+     *                                  {@link io.github.namiuni.kotonoha.annotations.Key} or {@link Message}
+     * @throws IllegalArgumentException if a translation is already registered
+     * @see #registerInterface(Class)
+     * @since 0.3.0
+     */
+    void registerIndexed(ClassLoader classLoader) throws IOException, IllegalStateException, IllegalArgumentException;
+
+    /**
+     * Applies a set of changes to this translation store at once.
+     * <p>
+     * The changes are made on a copy of the current translations, which replaces them once every change has been applied.
+     * Translations are therefore never seen half-registered, and lookups never wait for a registration. If {@code changes}
+     * throws, the store is left unchanged. The copy shares the translations of the keys that are not changed, so a batch
+     * costs a copy of the registered keys plus the translations it changes.
+     * <p>
+     * Every other registration method of this store is applied as a batch of its own, so registering many translations
+     * one by one copies the registered keys each time and should be replaced by a single batch.
+     *
+     * @param changes the changes to apply
+     * @since 0.3.0
+     */
+    void batch(Consumer<? super TranslationBatch<T>> changes);
+
+    /**
+     * Returns statistics about the templates parsed by this translation store.
+     * <p>
+     * Templates registered from message interfaces, resource bundles and watched directories are parsed once per distinct
+     * content, and shared between the keys and locales registering the same content.
+     *
+     * @return the template statistics
+     * @since 0.3.0
+     */
+    TemplateStatistics templateStatistics();
+
+    /**
+     * Sets whether templates are parsed on their first lookup rather than when they are registered.
+     * <p>
+     * Lazy parsing keeps only the raw template of each translation until it is first looked up, which shortens registration
+     * and saves the memory of the translations that are never used. Each template is parsed at most once, even when looked
+     * up concurrently. A template that cannot be parsed then fails on its first lookup rather than on registration.
+     * <p>
+     * The mode applies to the templates registered afterward from message interfaces, resource bundles and watched
+     * directories. Translations registered as parsed values are not affected. Templates are parsed on registration by
+     * default.
+     *
+     * @param lazyParsing whether to parse templates on their first lookup
+     * @see #warmUpKeys(Collection)
+     * @since 0.3.0
+     */
+    void lazyParsing(boolean lazyParsing);
+
+    /**
+     * Sets the keys whose templates are parsed as soon as they are registered, even when parsing lazily.
+     * <p>
+     * The registered templates of these keys are parsed immediately, and the templates registered for them later are parsed
+     * on registration, so that the first lookups of frequently used keys do not pay for parsing. Replaces the keys set
+     * before.
+     *
+     * @param keys the keys to parse eagerly
+     * @throws IllegalArgumentException if a registered template of the keys cannot be parsed
+     * @see #lazyParsing(boolean)
+     * @since 0.3.0
+     */
+    void warmUpKeys(Collection<String> keys) throws IllegalArgumentException;
+
+    /**
+     * Registers the translations of a binary translation bundle.
+     * <p>
+     * Binary translation bundles are generated next to the {@code .properties} files by the resource bundle generator, with
+     * the {@code .kotonoha} extension. The bundle is memory-mapped and its translations are looked up in place, each one
+     * being read and parsed on its first lookup, so registering a bundle costs little more than reading its keys. Only the
+     * keys and locales of the bundle are validated here: a translation that is corrupted or cannot be parsed fails on its
+     * first lookup rather than here.
+     *
+     * @param bundle the path of the binary translation bundle
+     * @throws IOException              if the bundle cannot be read or is not a binary translation bundle
+     * @throws IllegalArgumentException if a translation of the bundle is already registered
+     * @see #registerBundle(ClassLoader, String)
+     * @since 0.3.0
+     */
+    void registerBundle(Path bundle) throws IOException, IllegalArgumentException;
+
+    /**
+     * Registers the translations of a binary translation bundle found as a resource.
+     * <p>
+     * The resource bundle generator writes its bundles to the class output, so they are packaged with the classes. A
+     * bundle in a directory of the class path is memory-mapped as by {@link #registerBundle(Path)}, while a bundle inside
+     * a jar is read into memory, since it cannot be mapped. Its translations are then looked up in place the same way.
+     *
+     * @param classLoader the class loader to find the bundle with
+     * @param name        the resource name of the bundle, such as {@code messages.kotonoha}
+     * @throws IOException              if the bundle is not found, cannot be read or is not a binary translation bundle
+     * @throws IllegalArgumentException if a translation of the bundle is already registered
+     * @since 0.3.0
+     */
+    void registerBundle(ClassLoader classLoader, String name) throws IOException, IllegalArgumentException;
+
+    /**
+     * Loads the translation files of a directory and reloads them whenever they change.
+     * <p>
+     * Every {@code .properties} file directly in the directory is loaded as the translations of the locale named by its
+     * file name, such as {@code en_US.properties}. Files whose name is not a locale are ignored.
+     *
+     * @param directory          the directory containing the translation files
+     * @param escapeSingleQuotes whether single quotes should be escaped
+     * @return the watcher, to be closed once the directory no longer needs to be watched
+     * @throws IOException if the directory cannot be watched or read
+     * @see #watch(Path, Function, boolean)
+     * @since 0.3.0
+     */
+    TranslationWatcher watch(Path directory, boolean escapeSingleQuotes) throws IOException;
+
+    /**
+     * Loads the translation files of a directory and reloads them whenever they change.
+     * <p>
+     * Every {@code .properties} file directly in the directory is loaded as the translations of the locale returned by
+     * {@code locales} for it, or ignored if it returns {@code null}. Translations loaded from the directory replace the
+     * translations already registered for the same key and locale.
+     * <p>
+     * When files change, only the messages whose content changed are parsed again, and every change is published as a
+     * single batch. Messages removed from a file are unregistered for the locale of the file. A file that fails to load
+     * leaves the store unchanged until it is fixed.
+     *
+     * @param directory          the directory containing the translation files
+     * @param locales            the function returning the locale of a translation file
+     * @param escapeSingleQuotes whether single quotes should be escaped
+     * @return the watcher, to be closed once the directory no longer needs to be watched
+     * @throws IOException if the directory cannot be watched or read
+     * @since 0.3.0
+     */
+    TranslationWatcher watch(Path directory, Function<Path, @Nullable Locale> locales, boolean escapeSingleQuotes) throws IOException;
 }
@@ -0,0 +1,84 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.jspecify.annotations.NullMarked;
+
+// Reads the META-INF/kotonoha/index resources written by MessageRegistrationGeneratorProcessor.
+// Each line holds the binary name of a message interface, followed by its key count and locales,
+// which are informative only. Blank lines and lines starting with '#' are ignored.
+@NullMarked
+final class MessageInterfaceIndex {
+
+    static final String INDEX_RESOURCE = "META-INF/kotonoha/index";
+
+    private MessageInterfaceIndex() {
+    }
+
+    // Loads the interfaces listed by every index visible to the class loader, each interface once
+    static List<Class<?>> read(final ClassLoader classLoader) throws IOException, IllegalStateException {
+        final Set<String> names = new LinkedHashSet<>();
+        final Enumeration<URL> indexes = classLoader.getResources(INDEX_RESOURCE);
+        while (indexes.hasMoreElements()) {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(indexes.nextElement().openStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    final String entry = line.strip();
+                    if (!entry.isEmpty() && entry.charAt(0) != '#') {
+                        names.add(entry.split("\\s+", 2)[0]);
+                    }
+                }
+            }
+        }
+
+        final List<Class<?>> loadedInterfaces = new ArrayList<>(names.size());
+        for (final String name : names) {
+            try {
+                loadedInterfaces.add(Class.forName(name, false, classLoader));
+            } catch (final ClassNotFoundException exception) {
+                final String message = "Indexed message interface '%s' cannot be loaded".formatted(name);
+                throw new IllegalStateException(message, exception);
+            }
+        }
+
+        // An interface extended by another indexed interface is registered with it, as its methods are inherited
+        final List<Class<?>> interfaces = new ArrayList<>(loadedInterfaces.size());
+        for (final Class<?> candidate : loadedInterfaces) {
+            if (loadedInterfaces.stream().noneMatch(other -> other != candidate && candidate.isAssignableFrom(other))) {
+                interfaces.add(candidate);
+            }
+        }
+        return interfaces;
+    }
+}
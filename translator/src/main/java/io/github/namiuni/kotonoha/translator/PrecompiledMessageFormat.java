@@ -0,0 +1,105 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translator;
+
+import java.text.AttributedCharacterIterator;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.TranslationArgument;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+// A MessageFormat split into literal text and argument slots once, at registration.
+// Adventure's renderer formats a translation with null arguments and walks the argument runs of
+// formatToCharacterIterator, which only depend on the pattern. This renders the same component from the segments,
+// without formatting. Its output does not depend on the locale or the sub-formats of the format either, as null
+// arguments are never formatted.
+@NullMarked
+final class PrecompiledMessageFormat {
+
+    private final String text;
+    private final Segment[] segments;
+    private final int argumentCount;
+
+    private PrecompiledMessageFormat(final String text, final Segment[] segments, final int argumentCount) {
+        this.text = text;
+        this.segments = segments;
+        this.argumentCount = argumentCount;
+    }
+
+    static PrecompiledMessageFormat compile(final MessageFormat format) {
+        // Without arguments, Adventure uses the formatted text as the content of the component
+        final String text = format.format(null, new StringBuffer(), null).toString();
+        final Object[] nulls = new Object[format.getFormatsByArgumentIndex().length];
+        final String formatted = format.format(nulls, new StringBuffer(), null).toString();
+        final AttributedCharacterIterator iterator = format.formatToCharacterIterator(nulls);
+
+        final List<Segment> segments = new ArrayList<>();
+        while (iterator.getIndex() < iterator.getEndIndex()) {
+            final int end = iterator.getRunLimit();
+            // Adjacent placeholders of the same argument form a single run, rendered as one argument
+            if (iterator.getAttribute(MessageFormat.Field.ARGUMENT) instanceof Integer index) {
+                segments.add(new ArgumentSegment(index));
+            } else {
+                segments.add(new LiteralSegment(formatted.substring(iterator.getIndex(), end)));
+            }
+            iterator.setIndex(end);
+        }
+
+        return new PrecompiledMessageFormat(text, segments.toArray(Segment[]::new), nulls.length);
+    }
+
+    // Same as TranslatableComponentRenderer, whose renderer then renders the result, or null to leave it to Adventure
+    @Nullable Component render(final TranslatableComponent component) {
+        final List<TranslationArgument> arguments = component.arguments();
+        final TextComponent.Builder builder = Component.text().style(component.style());
+        if (arguments.isEmpty()) {
+            builder.content(this.text);
+        } else if (arguments.size() < this.argumentCount) {
+            // Missing arguments are formatted as literal text, merged into the literal runs around them
+            return null;
+        } else {
+            for (final Segment segment : this.segments) {
+                switch (segment) {
+                    case LiteralSegment literal -> builder.append(Component.text(literal.text()));
+                    case ArgumentSegment argument -> builder.append(arguments.get(argument.index()).asComponent());
+                }
+            }
+        }
+        return builder.append(component.children()).build();
+    }
+
+    private sealed interface Segment permits LiteralSegment, ArgumentSegment {
+    }
+
+    private record LiteralSegment(String text) implements Segment {
+    }
+
+    private record ArgumentSegment(int index) implements Segment {
+    }
+}
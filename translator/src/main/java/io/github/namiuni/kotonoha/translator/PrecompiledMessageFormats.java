@@ -0,0 +1,68 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translator;
+
+import java.text.MessageFormat;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+// Precompiled forms of the formats parsed by a store, shared by every snapshot of it.
+// They are kept beside the formats, which stay plain MessageFormat instances. Formats are keyed by equality, whose hash
+// is the one of the pattern: a registered format whose pattern is changed afterwards is no longer found, and is left
+// to Adventure's renderer.
+@NullMarked
+final class PrecompiledMessageFormats {
+
+    private final Map<MessageFormat, PrecompiledMessageFormat> formats = new ConcurrentHashMap<>();
+
+    MessageFormat prepare(final MessageFormat format) {
+        this.formats.computeIfAbsent(format, PrecompiledMessageFormat::compile);
+        return format;
+    }
+
+    // Returns the precompiled form of the format, or null if it was not parsed by the store
+    @Nullable PrecompiledMessageFormat get(final MessageFormat format) {
+        return this.formats.get(format);
+    }
+
+    // Forgets the formats that are no longer registered, so that reloads do not accumulate them
+    void retain(final Collection<? extends Map<?, TranslationEntry<MessageFormat>>> translations) {
+        final Set<MessageFormat> registered = new HashSet<>();
+        for (final Map<?, TranslationEntry<MessageFormat>> locales : translations) {
+            for (final TranslationEntry<MessageFormat> entry : locales.values()) {
+                // Lazy formats are only prepared once they are parsed
+                final @Nullable MessageFormat format = entry.parsedTranslation();
+                if (format != null) {
+                    registered.add(format);
+                }
+            }
+        }
+        this.formats.keySet().retainAll(registered);
+    }
+}
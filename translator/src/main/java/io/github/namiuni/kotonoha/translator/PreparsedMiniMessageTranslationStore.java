@@ -0,0 +1,106 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translator;
+
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.translation.MiniMessageTranslator;
+import net.kyori.adventure.util.TriState;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+// A MiniMessage translation store that renders static templates from their parsed components.
+// Templates that are not static are rendered by MiniMessageTranslator as in Adventure's MiniMessage translation store.
+@NullMarked
+final class PreparsedMiniMessageTranslationStore extends FlatteningTranslationStore<String> {
+
+    private final StaticMiniMessageTemplates templates;
+    private final MiniMessageTranslator translator;
+
+    PreparsedMiniMessageTranslationStore(
+            final Key name,
+            final Map<String, Map<Locale, TranslationEntry<String>>> translations,
+            final List<BundleTranslations<String>> bundles,
+            final @Nullable Locale defaultLocale,
+            final KeyIndex keyIndex,
+            final StaticMiniMessageTemplates templates
+    ) {
+        super(name, translations, bundles, defaultLocale, keyIndex);
+        this.templates = templates;
+        this.translator = new Translator(templates.miniMessage());
+    }
+
+    @Override
+    public @Nullable MessageFormat translate(final String key, final Locale locale) {
+        return null;
+    }
+
+    @Override
+    public @Nullable Component translate(final TranslatableComponent component, final Locale locale) {
+        final @Nullable String template = this.translation(component.key(), locale);
+        if (template == null) {
+            return null;
+        }
+
+        final Optional<Component> prepared = this.templates.prepare(template);
+        if (prepared.isEmpty()) {
+            return this.translator.translate(component, locale);
+        }
+
+        // Same as MiniMessageTranslator: fall back to the style of the translatable component and keep its children
+        final Component result = component.style().isEmpty()
+                ? prepared.get()
+                : prepared.get().applyFallbackStyle(component.style());
+        return component.children().isEmpty() ? result : result.append(component.children());
+    }
+
+    private final class Translator extends MiniMessageTranslator {
+
+        private Translator(final MiniMessage miniMessage) {
+            super(miniMessage);
+        }
+
+        @Override
+        protected @Nullable String getMiniMessageString(final String key, final Locale locale) {
+            return PreparsedMiniMessageTranslationStore.this.translation(key, locale);
+        }
+
+        @Override
+        public Key name() {
+            return PreparsedMiniMessageTranslationStore.this.name();
+        }
+
+        @Override
+        public TriState hasAnyTranslations() {
+            return PreparsedMiniMessageTranslationStore.this.hasAnyTranslations();
+        }
+    }
+}
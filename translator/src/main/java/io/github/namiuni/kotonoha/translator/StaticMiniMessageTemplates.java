@@ -0,0 +1,132 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translator;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.Context;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.ParsingException;
+import net.kyori.adventure.text.minimessage.tag.Tag;
+import net.kyori.adventure.text.minimessage.tag.resolver.ArgumentQueue;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import net.kyori.adventure.text.minimessage.tag.standard.StandardTags;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+// Parsed components of the static MiniMessage templates, shared by every snapshot of a store.
+// A template is static when it only uses standard tags whose arguments contain no further tags, so its
+// component does not depend on the translation arguments or the target.
+@NullMarked
+final class StaticMiniMessageTemplates {
+
+    // Parses without any tags, so that every tag of a template is offered to the scanning resolver
+    private static final MiniMessage TAG_SCANNER = MiniMessage.builder().tags(TagResolver.empty()).build();
+    private static final TagResolver STANDARD_TAGS = StandardTags.defaults();
+
+    private final MiniMessage miniMessage;
+    private final Map<String, Optional<Component>> templates = new ConcurrentHashMap<>();
+
+    StaticMiniMessageTemplates(final MiniMessage miniMessage) {
+        this.miniMessage = miniMessage;
+    }
+
+    private static boolean isStatic(final String template) {
+        final StaticTemplateScanner scanner = new StaticTemplateScanner();
+        TAG_SCANNER.deserialize(template, scanner);
+        return scanner.isStatic;
+    }
+
+    MiniMessage miniMessage() {
+        return this.miniMessage;
+    }
+
+    // Returns the component of the template, or empty if the template is not static
+    Optional<Component> prepare(final String template) {
+        // Avoid computeIfAbsent on the hot path, it locks the bin even when the mapping exists
+        final @Nullable Optional<Component> prepared = this.templates.get(template);
+        if (prepared != null) {
+            return prepared;
+        }
+        return this.templates.computeIfAbsent(template, this::parseStatic);
+    }
+
+    // Forgets the components of the templates that are no longer registered, so that reloads do not accumulate them
+    void retain(final Collection<? extends Map<?, TranslationEntry<String>>> translations) {
+        final Set<String> registered = new HashSet<>();
+        for (final Map<?, TranslationEntry<String>> locales : translations) {
+            for (final TranslationEntry<String> entry : locales.values()) {
+                // Lazy templates are only prepared once they are parsed
+                final @Nullable String template = entry.parsedTranslation();
+                if (template != null) {
+                    registered.add(template);
+                }
+            }
+        }
+        this.templates.keySet().retainAll(registered);
+    }
+
+    private Optional<Component> parseStatic(final String template) {
+        if (!StaticMiniMessageTemplates.isStatic(template)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(this.miniMessage.deserialize(template));
+        } catch (final ParsingException exception) {
+            // Leave the failure to the translator, which reports it on every render as before
+            return Optional.empty();
+        }
+    }
+
+    // Claims every tag and records whether any of them may depend on the arguments of a render
+    private static final class StaticTemplateScanner implements TagResolver {
+
+        private boolean isStatic = true;
+
+        @Override
+        public @Nullable Tag resolve(final String name, final ArgumentQueue arguments, final Context ctx) {
+            if (!STANDARD_TAGS.has(name)) {
+                this.isStatic = false;
+                return null;
+            }
+            while (arguments.hasNext()) {
+                // Tags such as hover parse their arguments as MiniMessage with the render's resolvers
+                if (arguments.pop().value().indexOf('<') >= 0) {
+                    this.isStatic = false;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public boolean has(final String name) {
+            return true;
+        }
+    }
+}
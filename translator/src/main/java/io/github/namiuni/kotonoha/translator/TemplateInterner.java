@@ -0,0 +1,105 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translator;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+// Shares one parsed instance between identical templates.
+// Templates are keyed by their content, and also by their locale when the parsed form depends on it.
+@NullMarked
+final class TemplateInterner<T> {
+
+    private final BiFunction<String, Locale, T> parser;
+    private final Predicate<T> localeSensitive;
+    private final Map<TemplateKey, T> templates = new ConcurrentHashMap<>();
+    private final LongAdder parsedTemplates = new LongAdder();
+    private final LongAdder sharedTemplates = new LongAdder();
+    private final LongAdder sharedCharacters = new LongAdder();
+
+    TemplateInterner(final BiFunction<String, Locale, T> parser, final Predicate<T> localeSensitive) {
+        this.parser = parser;
+        this.localeSensitive = localeSensitive;
+    }
+
+    T intern(final String template, final Locale locale) {
+        @Nullable T shared = this.templates.get(new TemplateKey(template, null));
+        if (shared == null) {
+            shared = this.templates.get(new TemplateKey(template, locale));
+        }
+        if (shared != null) {
+            this.share(template);
+            return shared;
+        }
+
+        final T parsed = this.parser.apply(template, locale);
+        final TemplateKey key = new TemplateKey(template, this.localeSensitive.test(parsed) ? locale : null);
+        final @Nullable T previous = this.templates.putIfAbsent(key, parsed);
+        if (previous != null) {
+            // Parsed concurrently by another registration
+            this.share(template);
+            return previous;
+        }
+        this.parsedTemplates.increment();
+        return parsed;
+    }
+
+    private void share(final String template) {
+        this.sharedTemplates.increment();
+        this.sharedCharacters.add(template.length());
+    }
+
+    // Forgets the templates that are no longer registered, so that reloads do not accumulate them
+    void retain(final Collection<? extends Map<?, TranslationEntry<T>>> translations) {
+        final Set<T> registered = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (final Map<?, TranslationEntry<T>> locales : translations) {
+            for (final TranslationEntry<T> entry : locales.values()) {
+                // Lazy translations are interned once they are parsed
+                final @Nullable T translation = entry.parsedTranslation();
+                if (translation != null) {
+                    registered.add(translation);
+                }
+            }
+        }
+        this.templates.values().removeIf(template -> !registered.contains(template));
+    }
+
+    TemplateStatistics statistics() {
+        return new TemplateStatisticsImpl(this.parsedTemplates.sum(), this.sharedTemplates.sum(), this.sharedCharacters.sum());
+    }
+
+    // A null locale matches every locale
+    private record TemplateKey(String template, @Nullable Locale locale) {
+    }
+}
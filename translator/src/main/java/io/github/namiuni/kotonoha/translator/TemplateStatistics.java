@@ -0,0 +1,66 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translator;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Statistics about the templates parsed by a {@link KotonohaTranslationStore}.
+ * <p>
+ * Identical templates registered for several keys or locales share one parsed instance. Templates whose parsed form depends
+ * on the locale, such as {@link java.text.MessageFormat} patterns with arguments, are only shared within a locale.
+ *
+ * @see KotonohaTranslationStore#templateStatistics()
+ * @since 0.3.0
+ */
+@NullMarked
+public sealed interface TemplateStatistics permits TemplateStatisticsImpl {
+
+    /**
+     * Returns the number of templates that were parsed.
+     *
+     * @return the number of parsed templates
+     * @since 0.3.0
+     */
+    long parsedTemplates();
+
+    /**
+     * Returns the number of registrations that reused an already parsed template instead of parsing it again.
+     *
+     * @return the number of shared templates
+     * @since 0.3.0
+     */
+    long sharedTemplates();
+
+    /**
+     * Returns the total length of the shared templates.
+     * <p>
+     * A parsed template retains at least its content, so this is a lower bound of the characters that sharing avoided
+     * keeping in memory.
+     *
+     * @return the number of characters of the shared templates
+     * @since 0.3.0
+     */
+    long sharedCharacters();
+}
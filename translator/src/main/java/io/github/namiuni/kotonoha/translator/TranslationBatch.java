@@ -0,0 +1,102 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translator;
+
+import io.github.namiuni.kotonoha.annotations.Message;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * A set of changes applied to a {@link KotonohaTranslationStore} at once.
+ * <p>
+ * The changes become visible to readers of the store together, once the batch has been applied.
+ *
+ * @param <T> the type of the translation
+ * @see KotonohaTranslationStore#batch(java.util.function.Consumer)
+ * @since 0.3.0
+ */
+@NullMarked
+public sealed interface TranslationBatch<T> permits TranslationBatchImpl {
+
+    /**
+     * Registers a translation.
+     *
+     * @param key         the translation key
+     * @param locale      the locale of the translation
+     * @param translation the translation
+     * @throws IllegalArgumentException if a translation is already registered for the key and locale
+     * @since 0.3.0
+     */
+    void register(String key, Locale locale, T translation) throws IllegalArgumentException;
+
+    /**
+     * Registers translations for a locale.
+     *
+     * @param locale       the locale of the translations
+     * @param translations the translations by key
+     * @throws IllegalArgumentException if a translation is already registered for one of the keys and the locale
+     * @since 0.3.0
+     */
+    void registerAll(Locale locale, Map<String, T> translations) throws IllegalArgumentException;
+
+    /**
+     * Registers the translations of a resource bundle.
+     *
+     * @param locale             the locale of the translations
+     * @param bundle             the resource bundle
+     * @param escapeSingleQuotes whether single quotes should be escaped
+     * @throws IllegalArgumentException if a translation is already registered for one of the keys and the locale
+     * @since 0.3.0
+     */
+    void registerAll(Locale locale, ResourceBundle bundle, boolean escapeSingleQuotes) throws IllegalArgumentException;
+
+    /**
+     * Registers a message interface containing annotated translations.
+     *
+     * @param messageInterface the message interface
+     * @throws IllegalStateException    if a method is not annotated with either {@link io.github.namiuni.kotonoha.annotations.Key} or {@link Message}
+     * @throws IllegalArgumentException if a translation is already registered for one of the keys and locales
+     * @see KotonohaTranslationStore#registerInterface(Class)
+     * @since 0.3.0
+     */
+    void registerInterface(Class<?> messageInterface) throws IllegalStateException, IllegalArgumentException;
+
+    /**
+     * Unregisters every translation of a key.
+     *
+     * @param key the translation key
+     * @since 0.3.0
+     */
+    void unregister(String key);
+
+    /**
+     * Sets the default locale of the store.
+     *
+     * @param locale the default locale
+     * @since 0.3.0
+     */
+    void defaultLocale(Locale locale);
+}
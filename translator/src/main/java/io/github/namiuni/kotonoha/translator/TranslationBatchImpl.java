@@ -0,0 +1,216 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.Set;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+// Collects changes on a private copy of the translations of a store, which publishes them as a new snapshot.
+// Only the key set is copied up front. The locales of a key are copied on its first change, so that the keys left
+// untouched keep sharing their immutable locales with the published snapshot.
+// Registered bundles are not copied either: a key of a bundle is only copied into the translations once it is changed,
+// after which the translations take precedence over the bundles, with an empty set of locales for an unregistered key.
+@NullMarked
+final class TranslationBatchImpl<T> implements TranslationBatch<T> {
+
+    private final KotonohaForwardingTranslationStore<T> store;
+    private final Map<String, Map<Locale, TranslationEntry<T>>> translations;
+    private final List<BundleTranslations<T>> bundles;
+    // Keys whose locales are a private copy that may be changed
+    private final Set<String> changedKeys = new HashSet<>();
+    private final List<KotonohaRegisterInterfaceEvent> events = new ArrayList<>();
+    private @Nullable Locale defaultLocale;
+    private boolean keySetChanged;
+    private boolean translationsDropped;
+
+    TranslationBatchImpl(
+            final KotonohaForwardingTranslationStore<T> store,
+            final Map<String, Map<Locale, TranslationEntry<T>>> translations,
+            final List<BundleTranslations<T>> bundles,
+            final @Nullable Locale defaultLocale
+    ) {
+        this.store = store;
+        this.translations = new HashMap<>(translations);
+        this.bundles = new ArrayList<>(bundles);
+        this.defaultLocale = defaultLocale;
+    }
+
+    // Returns the current locales of the key, registered directly or from a bundle
+    private @Nullable Map<Locale, TranslationEntry<T>> currentLocales(final String key) {
+        final @Nullable Map<Locale, TranslationEntry<T>> locales = this.translations.get(key);
+        return locales != null ? locales : BundleTranslations.locales(this.bundles, key);
+    }
+
+    // Returns the locales of the key that this batch may change
+    private Map<Locale, TranslationEntry<T>> changeLocales(final String key) {
+        final @Nullable Map<Locale, TranslationEntry<T>> locales = this.translations.get(key);
+        if (locales == null) {
+            final @Nullable Map<Locale, TranslationEntry<T>> bundled = BundleTranslations.locales(this.bundles, key);
+            final Map<Locale, TranslationEntry<T>> created = bundled == null ? new HashMap<>() : new HashMap<>(bundled);
+            this.translations.put(key, created);
+            this.changedKeys.add(key);
+            this.keySetChanged = true;
+            return created;
+        }
+        if (this.changedKeys.add(key)) {
+            final Map<Locale, TranslationEntry<T>> copy = new HashMap<>(locales);
+            this.translations.put(key, copy);
+            return copy;
+        }
+        return locales;
+    }
+
+    @Override
+    public void register(final String key, final Locale locale, final T translation) throws IllegalArgumentException {
+        this.registerEntry(key, locale, TranslationEntry.parsed(translation));
+    }
+
+    void registerEntry(final String key, final Locale locale, final TranslationEntry<T> entry) throws IllegalArgumentException {
+        final @Nullable Map<Locale, TranslationEntry<T>> current = this.currentLocales(key);
+        if (current != null && current.containsKey(locale)) {
+            final String message = "Translation already exists: %s for %s".formatted(key, locale);
+            throw new IllegalArgumentException(message);
+        }
+        this.changeLocales(key).put(locale, entry);
+    }
+
+    @Override
+    public void registerAll(final Locale locale, final Map<String, T> translations) throws IllegalArgumentException {
+        translations.forEach((key, translation) -> this.register(key, locale, translation));
+    }
+
+    @Override
+    public void registerAll(final Locale locale, final ResourceBundle bundle, final boolean escapeSingleQuotes) throws IllegalArgumentException {
+        for (final String key : bundle.keySet()) {
+            final String string = bundle.getString(key);
+            final String format = escapeSingleQuotes ? string.replace("'", "''") : string;
+            this.registerEntry(key, locale, this.store.entry(format, locale));
+        }
+    }
+
+    @Override
+    public void registerInterface(final Class<?> messageInterface) throws IllegalStateException, IllegalArgumentException {
+        this.registerStaged(this.store.stage(messageInterface));
+    }
+
+    void registerStaged(final KotonohaForwardingTranslationStore.StagedInterface<T> stagedInterface) throws IllegalArgumentException {
+        for (final KotonohaForwardingTranslationStore.StagedTranslation<T> translation : stagedInterface.translations()) {
+            this.registerEntry(translation.key(), translation.locale(), translation.entry());
+        }
+        this.events.add(stagedInterface.event());
+    }
+
+    // Registers the translation, replacing any translation of the key and locale
+    void put(final String key, final Locale locale, final TranslationEntry<T> entry) {
+        if (this.changeLocales(key).put(locale, entry) != null) {
+            this.translationsDropped = true;
+        }
+    }
+
+    // Unregisters the translation of the key and locale only
+    void remove(final String key, final Locale locale) {
+        final @Nullable Map<Locale, TranslationEntry<T>> locales = this.currentLocales(key);
+        if (locales != null && locales.containsKey(locale)) {
+            this.changeLocales(key).remove(locale);
+            this.translationsDropped = true;
+        }
+    }
+
+    @Override
+    public void unregister(final String key) {
+        final @Nullable Map<Locale, TranslationEntry<T>> locales = this.currentLocales(key);
+        if (locales != null && !locales.isEmpty()) {
+            this.changeLocales(key).clear();
+            this.translationsDropped = true;
+        }
+    }
+
+    // Registers the translations of the bundle without reading them, except for the keys already registered
+    void registerBundle(final BundleTranslations<T> bundle) throws IllegalArgumentException {
+        for (int key = 0; key < bundle.keyCount(); key++) {
+            final String translationKey = bundle.key(key);
+            // Binary searches of the other bundles, which only read the keys they contain
+            if (this.currentLocales(translationKey) != null) {
+                bundle.locales(key).forEach((locale, entry) -> this.registerEntry(translationKey, locale, entry));
+            }
+        }
+        this.bundles.add(bundle);
+    }
+
+    @Override
+    public void defaultLocale(final Locale locale) {
+        this.defaultLocale = locale;
+    }
+
+    // Seals the changed keys and returns the translations to publish, after which the batch must no longer be used
+    Map<String, Map<Locale, TranslationEntry<T>>> translations() {
+        for (final String key : this.changedKeys) {
+            final @Nullable Map<Locale, TranslationEntry<T>> locales = this.translations.get(key);
+            if (locales == null || locales.isEmpty()) {
+                if (BundleTranslations.locales(this.bundles, key) != null) {
+                    // Hides the translations of the bundles
+                    this.translations.put(key, Map.of());
+                } else {
+                    this.translations.remove(key);
+                    this.keySetChanged = true;
+                }
+            } else {
+                this.translations.put(key, Map.copyOf(locales));
+            }
+        }
+        this.changedKeys.clear();
+        return Collections.unmodifiableMap(this.translations);
+    }
+
+    List<BundleTranslations<T>> bundles() {
+        return List.copyOf(this.bundles);
+    }
+
+    @Nullable Locale defaultLocale() {
+        return this.defaultLocale;
+    }
+
+    // Whether a key was added or removed, in which case the keys of the snapshot have to be indexed again
+    boolean keySetChanged() {
+        return this.keySetChanged;
+    }
+
+    // Whether a translation was replaced or removed, which may leave interned templates unused
+    boolean translationsDropped() {
+        return this.translationsDropped;
+    }
+
+    List<KotonohaRegisterInterfaceEvent> events() {
+        return this.events;
+    }
+}
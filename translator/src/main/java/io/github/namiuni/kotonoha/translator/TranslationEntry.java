@@ -0,0 +1,90 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translator;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.function.Supplier;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+// A registered translation, which is either parsed at registration or on its first lookup.
+// A lazy translation is parsed at most once, and published to other threads through a release store.
+// Its parser, which holds the raw template, is dropped once parsed so that only the parsed form stays reachable.
+@NullMarked
+final class TranslationEntry<T> {
+
+    private static final VarHandle TRANSLATION;
+
+    static {
+        try {
+            TRANSLATION = MethodHandles.lookup().findVarHandle(TranslationEntry.class, "translation", Object.class);
+        } catch (final ReflectiveOperationException exception) {
+            throw new ExceptionInInitializerError(exception);
+        }
+    }
+
+    private @Nullable Supplier<? extends T> parser; // Guarded by this
+    @SuppressWarnings("unused") // Accessed through TRANSLATION
+    private @Nullable T translation;
+
+    private TranslationEntry(final @Nullable Supplier<? extends T> parser, final @Nullable T translation) {
+        this.parser = parser;
+        this.translation = translation;
+    }
+
+    static <T> TranslationEntry<T> parsed(final T translation) {
+        return new TranslationEntry<>(null, translation);
+    }
+
+    static <T> TranslationEntry<T> lazy(final Supplier<? extends T> parser) {
+        return new TranslationEntry<>(parser, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    T get() {
+        final @Nullable T parsed = (T) TRANSLATION.getAcquire(this);
+        if (parsed != null) {
+            return parsed;
+        }
+
+        synchronized (this) {
+            final @Nullable T current = (T) TRANSLATION.getAcquire(this);
+            if (current != null) {
+                return current;
+            }
+            final T translation = Objects.requireNonNull(this.parser).get();
+            TRANSLATION.setRelease(this, translation);
+            this.parser = null;
+            return translation;
+        }
+    }
+
+    // Returns the translation if it has been parsed, without parsing it
+    @SuppressWarnings("unchecked")
+    @Nullable T parsedTranslation() {
+        return (T) TRANSLATION.getAcquire(this);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translator;
+
+import java.nio.file.Path;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Watches a directory of translation files and keeps a {@link KotonohaTranslationStore} up to date with it.
+ * <p>
+ * When files change, only the translations whose content changed are parsed again, and they are published to the store
+ * as a single {@linkplain KotonohaTranslationStore#batch(java.util.function.Consumer) batch}.
+ *
+ * @see KotonohaTranslationStore#watch(Path, boolean)
+ * @since 0.3.0
+ */
+@NullMarked
+public sealed interface TranslationWatcher extends AutoCloseable permits TranslationWatcherImpl {
+
+    /**
+     * Returns the watched directory.
+     *
+     * @return the watched directory
+     * @since 0.3.0
+     */
+    Path directory();
+
+    /**
+     * Stops watching the directory.
+     * <p>
+     * The translations loaded so far stay registered.
+     *
+     * @since 0.3.0
+     */
+    @Override
+    void close();
+}
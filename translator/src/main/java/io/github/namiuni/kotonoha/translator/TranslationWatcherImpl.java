@@ -0,0 +1,249 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PropertyResourceBundle;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import net.kyori.adventure.translation.Translator;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+// Reloads the properties files of a directory whenever they change.
+// The raw messages of every file are kept, so that a change only parses the messages that differ from the last load.
+@NullMarked
+final class TranslationWatcherImpl<T> implements TranslationWatcher {
+
+    private static final System.Logger LOGGER = System.getLogger(TranslationWatcherImpl.class.getName());
+    private static final String FILE_EXTENSION = ".properties";
+    // Editors often write a file in several steps, wait until the directory is quiet before reloading
+    private static final long DEBOUNCE_MILLIS = 100;
+
+    private final KotonohaForwardingTranslationStore<T> store;
+    private final Path directory;
+    private final Function<Path, @Nullable Locale> locales;
+    private final boolean escapeSingleQuotes;
+    private final WatchService watchService;
+    private final Thread thread;
+    // Only accessed by the watching thread once it has started
+    private final Map<Path, LoadedFile> files = new HashMap<>();
+
+    TranslationWatcherImpl(
+            final KotonohaForwardingTranslationStore<T> store,
+            final Path directory,
+            final Function<Path, @Nullable Locale> locales,
+            final boolean escapeSingleQuotes
+    ) throws IOException {
+        this.store = store;
+        this.directory = directory;
+        this.locales = locales;
+        this.escapeSingleQuotes = escapeSingleQuotes;
+        this.watchService = directory.getFileSystem().newWatchService();
+        this.thread = Thread.ofPlatform()
+                .name("Kotonoha Translation Watcher")
+                .daemon()
+                .unstarted(this::watch);
+
+        try {
+            // Register before the first load, so that no change made in between is missed
+            directory.register(
+                    this.watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE
+            );
+            this.reload(this.listFiles());
+        } catch (final IOException | RuntimeException exception) {
+            this.watchService.close();
+            throw exception;
+        }
+    }
+
+    static @Nullable Locale fileNameLocale(final Path path) {
+        final String fileName = path.getFileName().toString();
+        return Translator.parseLocale(fileName.substring(0, fileName.length() - FILE_EXTENSION.length()));
+    }
+
+    private static Map<String, String> readMessages(final Path path) throws IOException {
+        if (!Files.isRegularFile(path)) {
+            return Map.of();
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            final PropertyResourceBundle bundle = new PropertyResourceBundle(reader);
+            final Map<String, String> messages = new HashMap<>();
+            for (final String key : bundle.keySet()) {
+                messages.put(key, bundle.getString(key));
+            }
+            return messages;
+        } catch (final NoSuchFileException exception) {
+            // Deleted after the check
+            return Map.of();
+        }
+    }
+
+    void start() {
+        this.thread.start();
+    }
+
+    @Override
+    public Path directory() {
+        return this.directory;
+    }
+
+    @Override
+    public void close() {
+        try {
+            this.watchService.close();
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                final Set<Path> changedFiles = new LinkedHashSet<>();
+                @Nullable WatchKey key = this.watchService.take();
+                while (key != null) {
+                    for (final WatchEvent<?> event : key.pollEvents()) {
+                        if (event.context() instanceof final Path path) {
+                            changedFiles.add(this.directory.resolve(path));
+                        } else {
+                            // Events were lost, compare every file
+                            changedFiles.addAll(this.files.keySet());
+                            changedFiles.addAll(this.listFiles());
+                        }
+                    }
+                    key.reset();
+                    key = this.watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+                }
+
+                try {
+                    this.reload(changedFiles);
+                } catch (final IOException | RuntimeException exception) {
+                    LOGGER.log(System.Logger.Level.WARNING, "Failed to reload translations from " + this.directory, exception);
+                }
+            }
+        } catch (final InterruptedException | ClosedWatchServiceException ignored) {
+            // Closed
+        } catch (final IOException exception) {
+            LOGGER.log(System.Logger.Level.WARNING, "Stopped watching translations in " + this.directory, exception);
+        }
+    }
+
+    private List<Path> listFiles() throws IOException {
+        try (Stream<Path> paths = Files.list(this.directory)) {
+            return paths.toList();
+        }
+    }
+
+    // Parses every changed message before touching the store, so that a broken file changes nothing unless parsing lazily
+    private void reload(final Collection<Path> paths) throws IOException {
+        final Map<Path, LoadedFile> loadedFiles = new HashMap<>();
+        final List<Change<T>> changes = new ArrayList<>();
+        for (final Path path : paths) {
+            if (!path.getFileName().toString().endsWith(FILE_EXTENSION)) {
+                continue;
+            }
+            final @Nullable Locale locale = this.locales.apply(path);
+            if (locale == null) {
+                continue;
+            }
+
+            final LoadedFile file = new LoadedFile(locale, readMessages(path));
+            final @Nullable LoadedFile previous = this.files.get(path);
+            final Map<String, String> previousMessages;
+            if (previous == null) {
+                previousMessages = Map.of();
+            } else if (previous.locale().equals(locale)) {
+                previousMessages = previous.messages();
+            } else {
+                // The file now holds another locale, all of its messages are new
+                previous.messages().keySet().forEach(key -> changes.add(new Change<>(key, previous.locale(), null)));
+                previousMessages = Map.of();
+            }
+
+            file.messages().forEach((key, message) -> {
+                if (!message.equals(previousMessages.get(key))) {
+                    final String format = this.escapeSingleQuotes ? message.replace("'", "''") : message;
+                    changes.add(new Change<>(key, locale, this.store.entry(format, locale)));
+                }
+            });
+            previousMessages.keySet().stream()
+                    .filter(key -> !file.messages().containsKey(key))
+                    .forEach(key -> changes.add(new Change<>(key, locale, null)));
+            loadedFiles.put(path, file);
+        }
+
+        if (!changes.isEmpty()) {
+            this.store.publish(batch -> {
+                for (final Change<T> change : changes) {
+                    final @Nullable TranslationEntry<T> entry = change.entry();
+                    if (entry == null) {
+                        batch.remove(change.key(), change.locale());
+                    } else {
+                        batch.put(change.key(), change.locale(), entry);
+                    }
+                }
+            });
+        }
+
+        loadedFiles.forEach((path, file) -> {
+            if (file.messages().isEmpty()) {
+                this.files.remove(path);
+            } else {
+                this.files.put(path, file);
+            }
+        });
+    }
+
+    private record LoadedFile(Locale locale, Map<String, String> messages) {
+    }
+
+    // A null entry removes the translation of the key and locale
+    private record Change<T>(String key, Locale locale, @Nullable TranslationEntry<T> entry) {
+    }
+}
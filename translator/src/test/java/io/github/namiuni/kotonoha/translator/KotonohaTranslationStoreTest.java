@@ -26,23 +26,52 @@ package io.github.namiuni.kotonoha.translator;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import io.github.namiuni.kotonoha.annotations.Key;
 import io.github.namiuni.kotonoha.annotations.Locales;
 import io.github.namiuni.kotonoha.annotations.Message;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.TranslatableComponent;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.translation.MiniMessageTranslationStore;
+import net.kyori.adventure.text.renderer.TranslatableComponentRenderer;
+import net.kyori.adventure.translation.TranslationStore;
 import org.jspecify.annotations.NullMarked;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 @NullMarked
 @SuppressWarnings("unused")
@@ -120,6 +149,18 @@ class KotonohaTranslationStoreTest {
         void testArgsMessage(String name);
     }
 
+    interface DuplicatedMessagesInterface {
+        @Key("duplicated.plain")
+        @Message(locale = Locales.EN_US, content = "Hello")
+        @Message(locale = Locales.EN_GB, content = "Hello")
+        void plainMessage();
+
+        @Key("duplicated.args")
+        @Message(locale = Locales.EN_US, content = "Hello, {0}!")
+        @Message(locale = Locales.EN_GB, content = "Hello, {0}!")
+        void argsMessage(String name);
+    }
+
     interface InvalidMessageFormatInterface {
         @Key("invalid.mf.syntax")
         @Message(locale = Locales.EN_US, content = "Invalid { syntax")
@@ -132,6 +173,38 @@ class KotonohaTranslationStoreTest {
         void testMiniMessage();
     }
 
+    interface TestMiniMessageTemplatesInterface {
+        @Key("test.mm.static")
+        @Message(locale = Locales.EN_US, content = "<bold>Static <red>message</red>")
+        void staticMessage();
+
+        @Key("test.mm.args")
+        @Message(locale = Locales.EN_US, content = "<yellow>Hello, <arg:0>!")
+        void argsMessage(String name);
+
+        @Key("test.mm.nested")
+        @Message(locale = Locales.EN_US, content = "<hover:show_text:'<arg:0>'>Hover")
+        void nestedMessage(String name);
+    }
+
+    interface ExtendingInterface extends ValidSingleMethodInterface {
+        @Key("extending.method")
+        @Message(locale = Locales.EN_US, content = "Extending method")
+        void extendingMethod();
+    }
+
+    interface SiblingInterface extends ValidSingleMethodInterface {
+        @Key("sibling.method")
+        @Message(locale = Locales.EN_US, content = "Sibling method")
+        void siblingMethod();
+    }
+
+    interface GeneratedRegistrationInterface {
+        @Key("generated.message")
+        @Message(locale = Locales.EN_US, content = "Reflective")
+        void generatedMessage();
+    }
+
     @Nested
     @DisplayName("Factory Methods")
     class FactoryMethodsTest {
@@ -237,6 +310,604 @@ class KotonohaTranslationStoreTest {
             assertNotNull(ja);
             assertEquals("こんにちは", ja.format(null));
         }
+
+        @Test
+        @DisplayName("should register the messages of the generated registration")
+        void shouldRegisterGeneratedRegistration() {
+            this.store.registerInterface(GeneratedRegistrationInterface.class);
+
+            final MessageFormat en = this.store.translate("generated.message", Locale.US);
+            assertNotNull(en);
+            assertEquals("Generated", en.toPattern());
+            assertTrue(this.store.contains("generated.message", Locale.JAPAN));
+        }
+    }
+
+    @Nested
+    @DisplayName("registerInterfaces() Logic")
+    class RegisterInterfacesLogicTest {
+
+        private KotonohaTranslationStore<MessageFormat> store;
+        private ExecutorService executor;
+
+        @BeforeEach
+        void setUp() {
+            this.store = KotonohaTranslationStore.messageFormat(TEST_NAME);
+            this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        }
+
+        @AfterEach
+        void tearDown() {
+            this.executor.close();
+        }
+
+        @Test
+        @DisplayName("should register every interface")
+        void shouldRegisterEveryInterface() {
+            this.store.registerInterfaces(List.of(ValidMultipleMethodsInterface.class, MultipleMessagesInterface.class), this.executor).join();
+
+            assertTrue(this.store.contains("valid.method1", Locale.US));
+            assertTrue(this.store.contains("valid.method2", Locale.US));
+            assertTrue(this.store.contains("multi.locale.message", Locale.JAPAN));
+        }
+
+        @Test
+        @DisplayName("should register a single interface asynchronously")
+        void shouldRegisterInterfaceAsync() {
+            this.store.registerInterfaceAsync(ValidSingleMethodInterface.class, this.executor).join();
+            assertTrue(this.store.contains("valid.method", Locale.US));
+        }
+
+        @Test
+        @DisplayName("should register nothing if an interface is invalid")
+        void shouldRegisterNothingIfInvalid() {
+            final CompletionException e = assertThrows(
+                    CompletionException.class,
+                    () -> this.store.registerInterfaces(List.of(ValidMultipleMethodsInterface.class, MissingKeyAnnotationInterface.class), this.executor).join()
+            );
+
+            assertInstanceOf(IllegalStateException.class, e.getCause());
+            assertFalse(this.store.contains("valid.method1"));
+            assertFalse(this.store.contains("valid.method2"));
+        }
+
+        @Test
+        @DisplayName("should register nothing if a translation already exists")
+        void shouldRegisterNothingIfDuplicated() {
+            this.store.registerInterface(ValidSingleMethodInterface.class);
+
+            final CompletionException e = assertThrows(
+                    CompletionException.class,
+                    () -> this.store.registerInterfaces(List.of(ValidMultipleMethodsInterface.class, ValidSingleMethodInterface.class), this.executor).join()
+            );
+
+            assertInstanceOf(IllegalArgumentException.class, e.getCause());
+            assertFalse(this.store.contains("valid.method1"));
+        }
+    }
+
+    @Nested
+    @DisplayName("batch() Logic")
+    class BatchLogicTest {
+
+        private KotonohaTranslationStore<MessageFormat> store;
+
+        @BeforeEach
+        void setUp() {
+            this.store = KotonohaTranslationStore.messageFormat(TEST_NAME);
+            this.store.registerInterface(ValidSingleMethodInterface.class);
+        }
+
+        @Test
+        @DisplayName("should apply every change")
+        void shouldApplyEveryChange() {
+            this.store.batch(batch -> {
+                batch.registerInterface(MultipleMessagesInterface.class);
+                batch.register("batch.message", Locale.US, new MessageFormat("Batch", Locale.US));
+                batch.unregister("valid.method");
+            });
+
+            assertTrue(this.store.contains("multi.locale.message", Locale.JAPAN));
+            assertTrue(this.store.contains("batch.message", Locale.US));
+            assertFalse(this.store.contains("valid.method"));
+        }
+
+        @Test
+        @DisplayName("should not show changes before the batch is applied")
+        void shouldNotShowPendingChanges() {
+            this.store.batch(batch -> {
+                batch.registerInterface(MultipleMessagesInterface.class);
+                assertFalse(this.store.contains("multi.locale.message"));
+            });
+
+            assertTrue(this.store.contains("multi.locale.message"));
+        }
+
+        @Test
+        @DisplayName("should leave the store unchanged if a change fails")
+        void shouldLeaveStoreUnchangedIfChangeFails() {
+            assertThrows(IllegalArgumentException.class, () -> this.store.batch(batch -> {
+                batch.unregister("valid.method");
+                batch.registerInterface(MultipleMessagesInterface.class);
+                batch.register("multi.locale.message", Locale.US, new MessageFormat("Duplicate", Locale.US));
+            }));
+
+            assertTrue(this.store.contains("valid.method", Locale.US));
+            assertFalse(this.store.contains("multi.locale.message"));
+        }
+
+        @Test
+        @DisplayName("should apply the default locale")
+        void shouldApplyDefaultLocale() {
+            this.store.batch(batch -> {
+                batch.registerInterface(MultipleMessagesInterface.class);
+                batch.defaultLocale(Locale.JAPAN);
+            });
+
+            final MessageFormat translation = this.store.translate("multi.locale.message", Locale.GERMANY);
+            assertNotNull(translation);
+            assertEquals("こんにちは", translation.format(null));
+        }
+
+        @Test
+        @DisplayName("should keep the translations of the keys left untouched")
+        void shouldKeepUntouchedTranslations() {
+            final MessageFormat untouched = this.store.translate("valid.method", Locale.US);
+            this.store.batch(batch -> {
+                batch.register("batch.message", Locale.US, new MessageFormat("Batch", Locale.US));
+                batch.register("batch.message", Locale.JAPAN, new MessageFormat("バッチ", Locale.JAPAN));
+            });
+            this.store.batch(batch -> batch.unregister("batch.message"));
+
+            assertSame(untouched, this.store.translate("valid.method", Locale.US));
+            assertFalse(this.store.contains("batch.message"));
+            assertNull(this.store.translate("batch.message", Locale.JAPAN));
+        }
+    }
+
+    @Nested
+    @DisplayName("watch() Logic")
+    class WatchLogicTest {
+
+        @TempDir
+        private Path directory;
+
+        private KotonohaTranslationStore<MessageFormat> store;
+
+        @BeforeEach
+        void setUp() {
+            this.store = KotonohaTranslationStore.messageFormat(TEST_NAME);
+        }
+
+        @Test
+        @DisplayName("should load the translation files of the directory")
+        void shouldLoadTranslationFiles() throws IOException {
+            Files.writeString(this.directory.resolve("en_US.properties"), "watch.message=Hello, {0}!");
+            Files.writeString(this.directory.resolve("notes.txt"), "watch.ignored=Ignored");
+
+            try (TranslationWatcher watcher = this.store.watch(this.directory, false)) {
+                assertEquals(this.directory, watcher.directory());
+                assertTrue(this.store.contains("watch.message", Locale.US));
+                assertFalse(this.store.contains("watch.ignored"));
+            }
+        }
+
+        @Test
+        @DisplayName("should reload changed translation files")
+        void shouldReloadChangedFiles() throws IOException, InterruptedException {
+            final Path file = this.directory.resolve("en_US.properties");
+            Files.writeString(file, "watch.changed=Before\nwatch.removed=Removed");
+
+            try (TranslationWatcher ignored = this.store.watch(this.directory, false)) {
+                Files.writeString(file, "watch.changed=After\nwatch.added=Added");
+
+                final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+                while (this.store.contains("watch.removed") && System.nanoTime() < deadline) {
+                    Thread.sleep(50);
+                }
+
+                final MessageFormat changed = this.store.translate("watch.changed", Locale.US);
+                assertNotNull(changed);
+                assertEquals("After", changed.toPattern());
+                assertTrue(this.store.contains("watch.added", Locale.US));
+                assertFalse(this.store.contains("watch.removed"));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("registerBundle() Logic")
+    class RegisterBundleLogicTest {
+
+        @TempDir
+        private Path directory;
+
+        private KotonohaTranslationStore<MessageFormat> store;
+
+        @BeforeEach
+        void setUp() {
+            this.store = KotonohaTranslationStore.messageFormat(TEST_NAME);
+        }
+
+        @Test
+        @DisplayName("should register the translations of the bundle")
+        void shouldRegisterBundleTranslations() throws IOException {
+            final Path bundle = writeBundle(
+                    this.directory.resolve("messages.kotonoha"),
+                    List.of("en-US", "ja-JP", "und"),
+                    List.of("bundle.greeting", "bundle.root"),
+                    List.of("Hello, {0}!", "こんにちは、{0}！", "Root"),
+                    new int[]{0, 1, -1, -1, -1, 2}
+            );
+
+            this.store.registerBundle(bundle);
+
+            assertEquals(0, this.store.templateStatistics().parsedTemplates());
+            final MessageFormat greeting = this.store.translate("bundle.greeting", Locale.JAPAN);
+            assertNotNull(greeting);
+            assertEquals("こんにちは、{0}！", greeting.toPattern());
+            assertTrue(this.store.contains("bundle.greeting", Locale.US));
+            assertFalse(this.store.contains("bundle.greeting", Locale.ROOT));
+            assertTrue(this.store.contains("bundle.root", Locale.ROOT));
+            assertEquals(1, this.store.templateStatistics().parsedTemplates());
+        }
+
+        @Test
+        @DisplayName("should throw IllegalArgumentException for already registered translations")
+        void shouldThrowForDuplicateTranslations() throws IOException {
+            final Path bundle = writeBundle(
+                    this.directory.resolve("messages.kotonoha"),
+                    List.of("en-US"),
+                    List.of("valid.method"),
+                    List.of("Valid"),
+                    new int[]{0}
+            );
+            this.store.registerInterface(ValidSingleMethodInterface.class);
+
+            assertThrows(IllegalArgumentException.class, () -> this.store.registerBundle(bundle));
+        }
+
+        @Test
+        @DisplayName("should throw IOException for files that are not bundles")
+        void shouldThrowForInvalidBundle() throws IOException {
+            final Path file = Files.writeString(this.directory.resolve("messages.properties"), "bundle.key=Value");
+
+            assertThrows(IOException.class, () -> this.store.registerBundle(file));
+        }
+
+        @Test
+        @DisplayName("should throw IOException for bundles with strings out of bounds")
+        void shouldThrowForCorruptBundle() throws IOException {
+            final Path bundle = writeBundle(
+                    this.directory.resolve("messages.kotonoha"),
+                    List.of("en-US"),
+                    List.of("bundle.key"),
+                    List.of("Value"),
+                    new int[]{0}
+            );
+            final byte[] bytes = Files.readAllBytes(bundle);
+            // The offset of the first string, after the header, the locale, the key and the message
+            ByteBuffer.wrap(bytes).putInt(8 * Integer.BYTES, Integer.MAX_VALUE);
+            Files.write(bundle, bytes);
+
+            assertThrows(IOException.class, () -> this.store.registerBundle(bundle));
+        }
+
+        @Test
+        @DisplayName("should fail the lookup of a corrupt message rather than the registration")
+        void shouldFailLookupForCorruptMessage() throws IOException {
+            final Path bundle = writeBundle(
+                    this.directory.resolve("messages.kotonoha"),
+                    List.of("en-US"),
+                    List.of("bundle.key"),
+                    List.of("Value"),
+                    new int[]{0}
+            );
+            final byte[] bytes = Files.readAllBytes(bundle);
+            // The offset of the message string, after the offsets of the locale and the key
+            ByteBuffer.wrap(bytes).putInt(10 * Integer.BYTES, Integer.MAX_VALUE);
+            Files.write(bundle, bytes);
+
+            this.store.registerBundle(bundle);
+
+            assertTrue(this.store.contains("bundle.key", Locale.US));
+            assertThrows(IllegalStateException.class, () -> this.store.translate("bundle.key", Locale.US));
+        }
+
+        @Test
+        @DisplayName("should register a bundle packaged in a jar")
+        void shouldRegisterBundleResource() throws IOException {
+            final byte[] bundle = Files.readAllBytes(writeBundle(
+                    this.directory.resolve("messages.kotonoha"),
+                    List.of("en-US"),
+                    List.of("bundle.key"),
+                    List.of("Value"),
+                    new int[]{0}
+            ));
+            final Path jar = this.directory.resolve("messages.jar");
+            try (JarOutputStream output = new JarOutputStream(Files.newOutputStream(jar))) {
+                output.putNextEntry(new JarEntry("messages/bundle.kotonoha"));
+                output.write(bundle);
+                output.closeEntry();
+            }
+
+            try (URLClassLoader classLoader = new URLClassLoader(new URL[]{jar.toUri().toURL()}, null)) {
+                this.store.registerBundle(classLoader, "messages/bundle.kotonoha");
+                assertThrows(IOException.class, () -> this.store.registerBundle(classLoader, "messages/missing.kotonoha"));
+            }
+
+            final MessageFormat translated = this.store.translate("bundle.key", Locale.US);
+            assertNotNull(translated);
+            assertEquals("Value", translated.toPattern());
+        }
+
+        @Test
+        @DisplayName("should change bundle translations like registered ones")
+        void shouldChangeBundleTranslations() throws IOException {
+            this.store.registerBundle(writeBundle(
+                    this.directory.resolve("first.kotonoha"),
+                    List.of("en-US"),
+                    List.of("bundle.removed", "bundle.shared"),
+                    List.of("Removed", "Shared"),
+                    new int[]{0, 1}
+            ));
+            this.store.registerBundle(writeBundle(
+                    this.directory.resolve("second.kotonoha"),
+                    List.of("ja-JP"),
+                    List.of("bundle.shared"),
+                    List.of("共有"),
+                    new int[]{0}
+            ));
+            this.store.unregister("bundle.removed");
+
+            assertFalse(this.store.contains("bundle.removed"));
+            assertNull(this.store.translate("bundle.removed", Locale.US));
+            assertTrue(this.store.contains("bundle.shared", Locale.US));
+            assertTrue(this.store.contains("bundle.shared", Locale.JAPAN));
+        }
+
+        // Writes a bundle whose strings are the locales, then the keys, then the messages, referenced by their index in messages
+        private static Path writeBundle(
+                final Path path,
+                final List<String> locales,
+                final List<String> keys,
+                final List<String> messages,
+                final int[] messageIndexes
+        ) throws IOException {
+            final List<String> strings = new ArrayList<>(locales);
+            strings.addAll(keys);
+            strings.addAll(messages);
+
+            try (DataOutputStream output = new DataOutputStream(Files.newOutputStream(path))) {
+                output.writeInt(BinaryTranslationBundle.MAGIC);
+                output.writeInt(BinaryTranslationBundle.VERSION);
+                output.writeInt(locales.size());
+                output.writeInt(keys.size());
+                output.writeInt(strings.size());
+                for (int string = 0; string < locales.size() + keys.size(); string++) {
+                    output.writeInt(string);
+                }
+                for (final int message : messageIndexes) {
+                    output.writeInt(message < 0 ? message : locales.size() + keys.size() + message);
+                }
+                int offset = 0;
+                for (final String string : strings) {
+                    output.writeInt(offset);
+                    offset += string.getBytes(StandardCharsets.UTF_8).length;
+                }
+                for (final String string : strings) {
+                    output.writeInt(string.getBytes(StandardCharsets.UTF_8).length);
+                }
+                for (final String string : strings) {
+                    output.write(string.getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            return path;
+        }
+    }
+
+    @Nested
+    @DisplayName("registerIndexed() Logic")
+    class RegisterIndexedLogicTest {
+
+        @TempDir
+        private Path directory;
+
+        private KotonohaTranslationStore<MessageFormat> store;
+
+        @BeforeEach
+        void setUp() {
+            this.store = KotonohaTranslationStore.messageFormat(TEST_NAME);
+        }
+
+        @Test
+        @DisplayName("should register every indexed interface")
+        void shouldRegisterIndexedInterfaces() throws IOException {
+            try (URLClassLoader classLoader = this.indexClassLoader(
+                    "# Generated by MessageRegistrationGeneratorProcessor",
+                    ValidSingleMethodInterface.class.getName() + " 1 EN_US",
+                    MultipleMessagesInterface.class.getName() + " 1 EN_US,JA_JP"
+            )) {
+                this.store.registerIndexed(classLoader);
+            }
+
+            assertTrue(this.store.contains("valid.method", Locale.US));
+            assertTrue(this.store.contains("multi.locale.message", Locale.JAPAN));
+        }
+
+        @Test
+        @DisplayName("should register extended interfaces through their sub interfaces")
+        void shouldRegisterExtendedInterfacesOnce() throws IOException {
+            try (URLClassLoader classLoader = this.indexClassLoader(
+                    ValidSingleMethodInterface.class.getName() + " 1 EN_US",
+                    ExtendingInterface.class.getName() + " 1 EN_US"
+            )) {
+                assertDoesNotThrow(() -> this.store.registerIndexed(classLoader));
+            }
+
+            assertTrue(this.store.contains("valid.method", Locale.US));
+            assertTrue(this.store.contains("extending.method", Locale.US));
+        }
+
+        @Test
+        @DisplayName("should register the methods of a shared super interface once")
+        void shouldRegisterSharedSuperInterfaceOnce() throws IOException {
+            try (URLClassLoader classLoader = this.indexClassLoader(
+                    ExtendingInterface.class.getName() + " 1 EN_US",
+                    SiblingInterface.class.getName() + " 1 EN_US"
+            )) {
+                assertDoesNotThrow(() -> this.store.registerIndexed(classLoader));
+            }
+
+            assertTrue(this.store.contains("valid.method", Locale.US));
+            assertTrue(this.store.contains("extending.method", Locale.US));
+            assertTrue(this.store.contains("sibling.method", Locale.US));
+        }
+
+        @Test
+        @DisplayName("should register nothing if an indexed interface cannot be loaded")
+        void shouldThrowForMissingInterface() throws IOException {
+            try (URLClassLoader classLoader = this.indexClassLoader(
+                    ValidSingleMethodInterface.class.getName() + " 1 EN_US",
+                    "test.MissingInterface 1 EN_US"
+            )) {
+                assertThrows(IllegalStateException.class, () -> this.store.registerIndexed(classLoader));
+            }
+
+            assertFalse(this.store.contains("valid.method"));
+        }
+
+        private URLClassLoader indexClassLoader(final String... lines) throws IOException {
+            final Path index = this.directory.resolve(MessageInterfaceIndex.INDEX_RESOURCE);
+            Files.createDirectories(index.getParent());
+            Files.write(index, List.of(lines));
+            return new URLClassLoader(new URL[]{this.directory.toUri().toURL()}, KotonohaTranslationStoreTest.class.getClassLoader());
+        }
+    }
+
+    @Nested
+    @DisplayName("lazyParsing() Logic")
+    class LazyParsingLogicTest {
+
+        private KotonohaTranslationStore<MessageFormat> store;
+
+        @BeforeEach
+        void setUp() {
+            this.store = KotonohaTranslationStore.messageFormat(TEST_NAME);
+            this.store.lazyParsing(true);
+        }
+
+        @Test
+        @DisplayName("should parse templates on their first lookup")
+        void shouldParseOnFirstLookup() {
+            this.store.registerInterface(TestMessageInterface.class);
+            assertEquals(0, this.store.templateStatistics().parsedTemplates());
+            assertTrue(this.store.contains("test.message", Locale.JAPAN));
+
+            final MessageFormat first = this.store.translate("test.message", Locale.JAPAN);
+            assertNotNull(first);
+            assertEquals("テストメッセージ", first.toPattern());
+            assertSame(first, this.store.translate("test.message", Locale.JAPAN));
+            assertEquals(1, this.store.templateStatistics().parsedTemplates());
+        }
+
+        @Test
+        @DisplayName("should parse each template once when looked up concurrently")
+        void shouldParseOnceConcurrently() throws Exception {
+            this.store.registerInterface(TestMessageFormatArgsInterface.class);
+
+            try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+                final List<Future<MessageFormat>> lookups = new ArrayList<>();
+                for (int i = 0; i < 64; i++) {
+                    lookups.add(executor.submit(() -> this.store.translate("test.args.message", Locale.US)));
+                }
+                final MessageFormat translation = lookups.getFirst().get();
+                for (final Future<MessageFormat> lookup : lookups) {
+                    assertSame(translation, lookup.get());
+                }
+            }
+            assertEquals(1, this.store.templateStatistics().parsedTemplates());
+        }
+
+        @Test
+        @DisplayName("should fail on the first lookup of an invalid template")
+        void shouldFailOnFirstLookup() {
+            assertDoesNotThrow(() -> this.store.registerInterface(InvalidMessageFormatInterface.class));
+            assertThrows(IllegalArgumentException.class, () -> this.store.translate("invalid.mf.syntax", Locale.US));
+        }
+
+        @Test
+        @DisplayName("should parse the templates of warm-up keys on registration")
+        void shouldParseWarmUpKeys() {
+            this.store.registerInterface(ValidMultipleMethodsInterface.class);
+            this.store.warmUpKeys(List.of("valid.method1", "test.message"));
+            assertEquals(1, this.store.templateStatistics().parsedTemplates());
+
+            this.store.registerInterface(TestMessageInterface.class);
+            assertEquals(3, this.store.templateStatistics().parsedTemplates());
+        }
+    }
+
+    @Nested
+    @DisplayName("Locale Fallback")
+    class LocaleFallbackTest {
+
+        @Test
+        @DisplayName("should fall back to the same locales as Adventure")
+        void shouldFallBackLikeAdventure() {
+            final KotonohaTranslationStore<MessageFormat> store = KotonohaTranslationStore.messageFormat(TEST_NAME);
+            final TranslationStore.StringBased<MessageFormat> reference = TranslationStore.messageFormat(TEST_NAME);
+            for (final TranslationStore.StringBased<MessageFormat> target : List.of(store, reference)) {
+                target.register("fallback.message", Locale.JAPAN, new MessageFormat("Japan", Locale.JAPAN));
+                target.register("fallback.message", Locale.ENGLISH, new MessageFormat("English", Locale.ENGLISH));
+                target.register("fallback.default", Locale.JAPAN, new MessageFormat("Default", Locale.JAPAN));
+                target.defaultLocale(Locale.JAPAN);
+            }
+
+            final List<Locale> locales = List.of(Locale.JAPAN, Locale.JAPANESE, Locale.UK, Locale.ENGLISH, Locale.GERMANY);
+            for (final String key : List.of("fallback.message", "fallback.default", "fallback.missing")) {
+                for (final Locale locale : locales) {
+                    final MessageFormat expected = reference.translate(key, locale);
+                    final MessageFormat actual = store.translate(key, locale);
+                    assertEquals(expected == null ? null : expected.toPattern(), actual == null ? null : actual.toPattern());
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("should fall back to the same locales before and after the locales are flattened")
+        void shouldFallBackLikeAdventureWhenFlattened() {
+            final KotonohaTranslationStore<MessageFormat> store = KotonohaTranslationStore.messageFormat(TEST_NAME);
+            final TranslationStore.StringBased<MessageFormat> reference = TranslationStore.messageFormat(TEST_NAME);
+            for (final TranslationStore.StringBased<MessageFormat> target : List.of(store, reference)) {
+                for (int index = 0; index < 256; index++) {
+                    target.register("fallback.message." + index, Locale.JAPAN, new MessageFormat("Japan " + index, Locale.JAPAN));
+                    target.register("fallback.message." + index, Locale.ENGLISH, new MessageFormat("English " + index, Locale.ENGLISH));
+                }
+                target.defaultLocale(Locale.JAPAN);
+            }
+
+            final List<Locale> locales = List.of(Locale.JAPAN, Locale.UK, Locale.GERMANY);
+            for (int round = 0; round < 4; round++) {
+                for (int index = 0; index < 256; index += 8) {
+                    for (final Locale locale : locales) {
+                        final String key = "fallback.message." + index;
+                        assertEquals(reference.translate(key, locale).toPattern(), store.translate(key, locale).toPattern());
+                        assertNull(store.translate("fallback.missing." + index, locale));
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("should see translations published after a lookup")
+        void shouldSeePublishedTranslations() {
+            final KotonohaTranslationStore<MessageFormat> store = KotonohaTranslationStore.messageFormat(TEST_NAME);
+            assertNull(store.translate("valid.method", Locale.UK));
+
+            store.registerInterface(ValidSingleMethodInterface.class);
+            assertNotNull(store.translate("valid.method", Locale.UK));
+        }
     }
 
     @Nested
@@ -264,6 +935,56 @@ class KotonohaTranslationStoreTest {
             assertEquals(new MessageFormat("テストメッセージ", Locale.JAPAN), translatedJa);
         }
 
+        @Test
+        @DisplayName("should render the same components as MessageFormat")
+        void shouldRenderSameAsMessageFormat() {
+            this.store.registerInterface(TestMessageFormatArgsInterface.class);
+            final TranslationStore.StringBased<MessageFormat> reference = TranslationStore.messageFormat(TEST_NAME);
+            reference.register("test.args.message", Locale.US, new MessageFormat("Hello, {0}!", Locale.US));
+
+            final List<TranslatableComponent> components = List.of(
+                    Component.translatable("test.args.message", Component.text("Alice")).color(NamedTextColor.RED),
+                    Component.translatable("test.args.message").append(Component.text("?")),
+                    Component.translatable("test.args.message", Component.text("Alice"), Component.text("Bob"))
+            );
+            for (final TranslatableComponent component : components) {
+                final Component expected = TranslatableComponentRenderer.usingTranslationSource(reference).render(component, Locale.US);
+                final Component actual = TranslatableComponentRenderer.usingTranslationSource(this.store).render(component, Locale.US);
+                assertEquals(expected, actual);
+            }
+        }
+
+        @Test
+        @DisplayName("should share identical templates")
+        void shouldShareIdenticalTemplates() {
+            this.store.registerInterface(DuplicatedMessagesInterface.class);
+
+            assertSame(this.store.translate("duplicated.plain", Locale.US), this.store.translate("duplicated.plain", Locale.UK));
+            assertNotSame(this.store.translate("duplicated.args", Locale.US), this.store.translate("duplicated.args", Locale.UK));
+
+            final TemplateStatistics statistics = this.store.templateStatistics();
+            assertEquals(3, statistics.parsedTemplates());
+            assertEquals(1, statistics.sharedTemplates());
+            assertEquals("Hello".length(), statistics.sharedCharacters());
+        }
+
+        @Test
+        @DisplayName("should render a changed format the same as MessageFormat")
+        void shouldRenderChangedFormat() {
+            this.store.registerInterface(TestMessageFormatArgsInterface.class);
+            final MessageFormat translated = this.store.translate("test.args.message", Locale.US);
+            assertNotNull(translated);
+            translated.applyPattern("Bye, {0}.");
+            final TranslationStore.StringBased<MessageFormat> reference = TranslationStore.messageFormat(TEST_NAME);
+            reference.register("test.args.message", Locale.US, new MessageFormat("Bye, {0}.", Locale.US));
+
+            final TranslatableComponent component = Component.translatable("test.args.message", Component.text("Alice"));
+            final Component expected = TranslatableComponentRenderer.usingTranslationSource(reference).render(component, Locale.US);
+            final Component actual = TranslatableComponentRenderer.usingTranslationSource(this.store).render(component, Locale.US);
+
+            assertEquals(expected, actual);
+        }
+
         @Test
         @DisplayName("should throw IllegalArgumentException for invalid MessageFormat syntax")
         void shouldThrowForInvalidMessageFormatSyntax() {
@@ -313,5 +1034,68 @@ class KotonohaTranslationStoreTest {
             Component expected = Component.text("Hello!").color(NamedTextColor.GREEN);
             assertEquals(expected, translated);
         }
+
+        @Test
+        @DisplayName("should render the same components as MiniMessage")
+        void shouldRenderSameComponentsAsMiniMessage() {
+            this.storeWithDefaultMM.registerInterface(TestMiniMessageTemplatesInterface.class);
+            final MiniMessageTranslationStore reference = MiniMessageTranslationStore.create(TEST_NAME);
+            reference.register("test.mm.static", Locale.US, "<bold>Static <red>message</red>");
+            reference.register("test.mm.args", Locale.US, "<yellow>Hello, <arg:0>!");
+            reference.register("test.mm.nested", Locale.US, "<hover:show_text:'<arg:0>'>Hover");
+
+            final List<TranslatableComponent> components = List.of(
+                    Component.translatable("test.mm.static"),
+                    Component.translatable("test.mm.static", NamedTextColor.GREEN).append(Component.text(" child")),
+                    Component.translatable("test.mm.args", Component.text("Alice")),
+                    Component.translatable("test.mm.args", Component.text("Bob")),
+                    Component.translatable("test.mm.nested", Component.text("Alice"))
+            );
+            for (final TranslatableComponent component : components) {
+                assertEquals(reference.translate(component, Locale.US), this.storeWithDefaultMM.translate(component, Locale.US));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Flight Recorder Events")
+    class FlightRecorderEventsTest {
+
+        @TempDir
+        private Path directory;
+
+        @Test
+        @DisplayName("should emit events for registration and translation")
+        void shouldEmitEvents() throws IOException {
+            final KotonohaTranslationStore<MessageFormat> store = KotonohaTranslationStore.messageFormat(TEST_NAME);
+            final Path file = this.directory.resolve("kotonoha.jfr");
+
+            try (Recording recording = new Recording()) {
+                recording.enable("io.github.namiuni.kotonoha.RegisterInterface");
+                recording.enable("io.github.namiuni.kotonoha.Translate");
+                recording.start();
+
+                store.registerInterface(ValidMultipleMethodsInterface.class);
+                store.translate("valid.method1", Locale.US);
+                store.translate("missing.key", Locale.US);
+
+                recording.stop();
+                recording.dump(file);
+            }
+
+            final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            final List<RecordedEvent> registrations = events.stream()
+                    .filter(event -> event.getEventType().getName().equals("io.github.namiuni.kotonoha.RegisterInterface"))
+                    .toList();
+            final List<RecordedEvent> translations = events.stream()
+                    .filter(event -> event.getEventType().getName().equals("io.github.namiuni.kotonoha.Translate"))
+                    .toList();
+
+            assertEquals(1, registrations.size());
+            assertEquals(2, registrations.getFirst().getInt("methodCount"));
+            assertEquals(2, translations.size());
+            assertTrue(translations.stream().anyMatch(event -> event.getString("key").equals("valid.method1") && event.getBoolean("hit")));
+            assertTrue(translations.stream().anyMatch(event -> event.getString("key").equals("missing.key") && !event.getBoolean("hit")));
+        }
     }
 }
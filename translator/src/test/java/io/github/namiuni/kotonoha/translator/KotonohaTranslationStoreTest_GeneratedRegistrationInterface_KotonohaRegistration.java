@@ -0,0 +1,38 @@
+/*
+ * This file is part of kotonoha, licensed under the MIT License.
+ *
+ * Copyright (c) 2026 Namiu (うにたろう)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.kotonoha.translator;
+
+// Stands in for the registration MessageRegistrationGeneratorProcessor generates for
+// KotonohaTranslationStoreTest.GeneratedRegistrationInterface. Its contents differ from the annotations of the interface,
+// so that tests can tell which of them was registered.
+public final class KotonohaTranslationStoreTest_GeneratedRegistrationInterface_KotonohaRegistration {
+
+    public static final int METHOD_COUNT = 1;
+    public static final String[] KEYS = {"generated.message", "generated.message"};
+    public static final String[] LOCALES = {"EN_US", "JA_JP"};
+    public static final String[] CONTENTS = {"Generated", "生成"};
+
+    private KotonohaTranslationStoreTest_GeneratedRegistrationInterface_KotonohaRegistration() {
+    }
+}